@@ -10,31 +10,45 @@ create table tag
 
 create table users
 (
-    id         binary(16)   not null
+    id              binary(16)   not null
         primary key,
-    email      varchar(30)  not null,
-    username   varchar(30)  not null,
-    password   varchar(200) not null,
-    bio        varchar(500) null,
-    image_url  varchar(200) null,
-    created_at datetime(6)  not null,
+    email           varchar(30)  not null,
+    username        varchar(30)  not null,
+    password        varchar(200) not null,
+    bio             varchar(500) null,
+    image_url       varchar(200) null,
+    followers_count int          not null,
+    created_at      datetime(6)  not null,
     constraint UK_6dotkott2kjsp8vw4d0m25fb7
         unique (email),
     constraint UK_r43af9ap4edm43mmtq01oddj6
         unique (username)
 );
 
+create index idx_users_followers_count
+    on users (followers_count);
+
+create table article_seq
+(
+    next_val bigint null
+);
+
+insert into article_seq values (1);
+
 create table article
 (
-    id          int auto_increment
+    id              int not null
         primary key,
-    author_id   binary(16)    not null,
-    slug        varchar(50)   not null,
-    title       varchar(50)   not null,
-    description varchar(50)   not null,
-    content     varchar(1000) not null,
-    created_at  datetime(6)   not null,
-    updated_at  datetime(6)   null,
+    author_id       binary(16)    not null,
+    slug            varchar(50)   not null,
+    title           varchar(50)   not null,
+    description     varchar(50)   not null,
+    content         varchar(1000) not null,
+    created_at      datetime(6)   not null,
+    updated_at      datetime(6)   null,
+    favorites_count int           not null,
+    comments_count  int           not null,
+    deleted_at      datetime(6)   null,
     constraint UK_a521x5asfhsahfocegwqfqwh1
         unique (slug),
     constraint UK_571gx7oqo5xpmgocegaidlcu9
@@ -43,6 +57,12 @@ create table article
         foreign key (author_id) references users (id)
 );
 
+create index idx_article_created_at_id
+    on article (created_at, id);
+
+create index idx_article_author_id_created_at_id
+    on article (author_id, created_at, id);
+
 create table article_favorite
 (
     id         int auto_increment
@@ -58,9 +78,19 @@ create table article_favorite
         foreign key (user_id) references users (id)
 );
 
+create index idx_article_favorite_article_id
+    on article_favorite (article_id, user_id);
+
+create table article_tag_seq
+(
+    next_val bigint null
+);
+
+insert into article_tag_seq values (1);
+
 create table article_tag
 (
-    id         int auto_increment
+    id         int not null
         primary key,
     article_id int         null,
     tag_id     int         null,
@@ -73,9 +103,19 @@ create table article_tag
         foreign key (tag_id) references tag (id)
 );
 
+create index idx_article_tag_tag_id
+    on article_tag (tag_id, article_id);
+
+create table article_comment_seq
+(
+    next_val bigint null
+);
+
+insert into article_comment_seq values (1);
+
 create table article_comment
 (
-    id         int auto_increment
+    id         int not null
         primary key,
     article_id int          not null,
     author_id  binary(16)   not null,
@@ -87,6 +127,23 @@ create table article_comment
         foreign key (author_id) references users (id)
 );
 
+create index idx_article_comment_article_id_created_at_id
+    on article_comment (article_id, created_at, id);
+
+create table article_counter_stripe
+(
+    id              int auto_increment
+        primary key,
+    article_id      int not null,
+    stripe          int not null,
+    favorites_count int not null,
+    comments_count  int not null,
+    constraint UK_article_counter_stripe_article_id_stripe
+        unique (article_id, stripe),
+    constraint FK_article_counter_stripe_article_id
+        foreign key (article_id) references article (id)
+);
+
 create table user_follow
 (
     id           int auto_increment
@@ -102,3 +159,26 @@ create table user_follow
         foreign key (following_id) references users (id)
 );
 
+create index idx_user_follow_following_id
+    on user_follow (following_id, follower_id);
+
+create table user_timeline
+(
+    id         int auto_increment
+        primary key,
+    owner_id   binary(16)  not null,
+    article_id int         not null,
+    author_id  binary(16)  not null,
+    created_at datetime(6) not null,
+    constraint UK_user_timeline_owner_id_article_id
+        unique (owner_id, article_id),
+    constraint FK_user_timeline_owner_id
+        foreign key (owner_id) references users (id),
+    constraint FK_user_timeline_article_id
+        foreign key (article_id) references article (id),
+    constraint FK_user_timeline_author_id
+        foreign key (author_id) references users (id)
+);
+
+create index idx_user_timeline_owner_id_created_at
+    on user_timeline (owner_id, created_at, article_id);
@@ -18,8 +18,11 @@ dependencies {
 
     // implementation
     implementation("org.springframework.boot:spring-boot-starter")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // test implementation
+    testImplementation(project(":module-core"))
+    testImplementation("org.hibernate.orm:hibernate-core")
     testImplementation("org.springframework.boot:spring-boot-starter-test") {
         exclude(group = "junit", module = "junit")
     }
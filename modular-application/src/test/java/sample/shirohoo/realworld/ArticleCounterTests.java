@@ -0,0 +1,79 @@
+package sample.shirohoo.realworld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleComment;
+import sample.shirohoo.realworld.core.model.ArticleInfo;
+import sample.shirohoo.realworld.core.model.Tag;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+import sample.shirohoo.realworld.core.service.ArticleCommentService;
+import sample.shirohoo.realworld.core.service.ArticleService;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:${random.uuid}?MODE=MYSQL;")
+@DisplayName("Article counters")
+class ArticleCounterTests {
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleCommentService articleCommentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("favorites are counted in the response and when the article is read again by slug.")
+    void favorites_are_seen_when_the_article_is_read_again_by_slug() {
+        // given
+        User author = userRepository.save(new User("counted@realworld.io", "counted", "password"));
+        User first = userRepository.save(new User("first-fan@realworld.io", "first-fan", "password"));
+        User second = userRepository.save(new User("second-fan@realworld.io", "second-fan", "password"));
+        articleService.publishArticle(
+                new Article(author, "counted article", "description", "content"), List.of(new Tag("counted")));
+
+        // when
+        ArticleInfo firstFavorite =
+                articleService.favoriteArticle(first, articleService.readArticleBySlug("counted-article"));
+        ArticleInfo secondFavorite =
+                articleService.favoriteArticle(second, articleService.readArticleBySlug("counted-article"));
+        Article favorited = articleService.readArticleBySlug("counted-article");
+        ArticleInfo unfavorite = articleService.unfavoriteArticle(first, favorited);
+        Article unfavorited = articleService.readArticleBySlug("counted-article");
+
+        // then
+        assertThat(firstFavorite.favoritesCount()).isEqualTo(1);
+        assertThat(secondFavorite.favoritesCount()).isEqualTo(2);
+        assertThat(favorited.getFavoritesCount()).isEqualTo(2);
+        assertThat(unfavorite.favoritesCount()).isEqualTo(1);
+        assertThat(unfavorited.getFavoritesCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("comments are counted when the article is read again by slug.")
+    void comments_are_seen_when_the_article_is_read_again_by_slug() {
+        // given
+        User author = userRepository.save(new User("commented@realworld.io", "commented", "password"));
+        articleService.publishArticle(
+                new Article(author, "commented article", "description", "content"), List.of(new Tag("commented")));
+
+        // when
+        ArticleComment comment = articleCommentService.writeComment(
+                new ArticleComment(articleService.readArticleBySlug("commented-article"), author, "comment"));
+        Article commented = articleService.readArticleBySlug("commented-article");
+        articleCommentService.deleteComment(author, comment);
+        Article uncommented = articleService.readArticleBySlug("commented-article");
+
+        // then
+        assertThat(commented.getCommentsCount()).isEqualTo(1);
+        assertThat(uncommented.getCommentsCount()).isZero();
+    }
+}
@@ -0,0 +1,12 @@
+package sample.shirohoo.realworld;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        properties = {
+            "realworld.article.comment.group-commit.enabled=true",
+            "spring.datasource.url=jdbc:h2:mem:${random.uuid}?MODE=MYSQL;"
+        })
+@DisplayName("Concurrent comments with group commit")
+class CommentGroupCommitTests extends ConcurrentCommentTests {}
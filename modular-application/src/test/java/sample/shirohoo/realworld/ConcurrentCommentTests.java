@@ -0,0 +1,74 @@
+package sample.shirohoo.realworld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleComment;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+import sample.shirohoo.realworld.core.service.ArticleCommentService;
+import sample.shirohoo.realworld.core.service.ArticleService;
+
+/**
+ * Writes comments from many threads through {@link ArticleCommentService}, and checks the stored
+ * comments and counter. Subclasses run it with and without group commit.
+ */
+abstract class ConcurrentCommentTests {
+    private static final int THREADS = 16;
+
+    // Note: Kept below the stripe threshold, so that every count goes straight to the article.
+    private static final int COMMENTS = 800;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleCommentService articleCommentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("comments written from many threads are all stored and counted.")
+    void comments_written_from_many_threads_are_all_stored_and_counted() throws Exception {
+        // given
+        User author = userRepository.save(new User("commenter@realworld.io", "commenter", "password"));
+        Article article = articleService.writeArticle(new Article(author, "many comments", "description", "content"));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<ArticleComment>> futures = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return articleCommentService.writeComment(new ArticleComment(article, author, "comment " + index));
+            }));
+        }
+        start.countDown();
+        for (Future<ArticleComment> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // then
+        AtomicInteger storedComments = new AtomicInteger();
+        articleCommentService.streamComments(article, articleComment -> storedComments.incrementAndGet());
+        assertThat(storedComments).hasValue(COMMENTS);
+        assertThat(articleService.readArticleBySlug("many-comments").getCommentsCount()).isEqualTo(COMMENTS);
+    }
+}
@@ -0,0 +1,82 @@
+package sample.shirohoo.realworld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleInfo;
+import sample.shirohoo.realworld.core.model.Tag;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+import sample.shirohoo.realworld.core.service.ArticleService;
+import sample.shirohoo.realworld.core.service.TagService;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:${random.uuid}?MODE=MYSQL;")
+@DisplayName("Concurrent article publishing")
+class ConcurrentTagPublishTests {
+    private static final int THREADS = 16;
+    private static final int ARTICLES = 2_000;
+    private static final int TAGS_PER_ARTICLE = 5;
+    private static final List<String> SHARED_TAG_NAMES =
+            IntStream.range(0, 20).mapToObj(i -> "shared-" + i).toList();
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("articles sharing new tags are published from many threads without failing.")
+    void articles_sharing_new_tags_are_published_from_many_threads() throws Exception {
+        // given
+        User author = userRepository.save(new User("publisher@realworld.io", "publisher", "password"));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<ArticleInfo>> futures = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Tag> tags = IntStream.range(0, TAGS_PER_ARTICLE)
+                        .mapToObj(offset -> new Tag(SHARED_TAG_NAMES.get((index + offset) % SHARED_TAG_NAMES.size())))
+                        .toList();
+                return articleService.publishArticle(
+                        new Article(author, "concurrent article " + index, "description", "content"), tags);
+            }));
+        }
+        start.countDown();
+
+        List<ArticleInfo> published = new ArrayList<>();
+        for (Future<ArticleInfo> future : futures) {
+            published.add(future.get(1, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(published).hasSize(ARTICLES);
+        assertThat(published).allMatch(articleInfo -> articleInfo.articleTags().size() == TAGS_PER_ARTICLE);
+        assertThat(tagService.getTags())
+                .extracting(Tag::getName)
+                .filteredOn(SHARED_TAG_NAMES::contains)
+                .containsExactlyInAnyOrderElementsOf(SHARED_TAG_NAMES);
+    }
+}
@@ -0,0 +1,68 @@
+package sample.shirohoo.realworld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.Tag;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+import sample.shirohoo.realworld.core.service.ArticleService;
+
+@SpringBootTest(
+        properties = {
+            RecordingStatementInspector.PROPERTY,
+            "spring.datasource.url=jdbc:h2:mem:${random.uuid}?MODE=MYSQL;"
+        })
+@DisplayName("Article publishing statements")
+class PublishStatementCountTests {
+    private static final List<Tag> TAGS =
+            IntStream.range(0, 50).mapToObj(i -> new Tag("batch-" + i)).toList();
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("article tags are inserted in one batch, however many tags the article has.")
+    void statements_per_publish_do_not_grow_with_the_number_of_tags() {
+        // given
+        User author = userRepository.save(new User("batcher@realworld.io", "batcher", "password"));
+        articleService.publishArticle(new Article(author, "batch warm-up", "description", "content"), TAGS);
+
+        // when
+        Map<Integer, List<String>> statementsByTags = new LinkedHashMap<>();
+        for (int tags : List.of(1, 10, 50)) {
+            RecordingStatementInspector.start();
+            articleService.publishArticle(
+                    new Article(author, "batch article " + tags, "description", "content"), TAGS.subList(0, tags));
+            statementsByTags.put(tags, RecordingStatementInspector.stop());
+        }
+
+        // then
+        statementsByTags.forEach((tags, statements) -> {
+            assertThat(statements)
+                    .as("article inserts with %d tags", tags)
+                    .filteredOn(statement -> statement.startsWith("insert into article "))
+                    .hasSize(1);
+            assertThat(statements)
+                    .as("article tag inserts with %d tags", tags)
+                    .filteredOn(statement -> statement.startsWith("insert into article_tag "))
+                    .hasSize(1);
+        });
+
+        // Note: Only a refill of the pooled article tag sequence may add a statement.
+        assertThat(statementsByTags.get(50).size()).isLessThanOrEqualTo(statementsByTags.get(1).size() + 2);
+    }
+}
@@ -0,0 +1,140 @@
+package sample.shirohoo.realworld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleComment;
+import sample.shirohoo.realworld.core.model.ArticleFacets;
+import sample.shirohoo.realworld.core.model.ArticleRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.Tag;
+import sample.shirohoo.realworld.core.model.TimelineRepository;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+import sample.shirohoo.realworld.core.service.ArticleCommentService;
+import sample.shirohoo.realworld.core.service.ArticleService;
+import sample.shirohoo.realworld.core.service.SocialService;
+
+@SpringBootTest(
+        properties = {
+            RecordingStatementInspector.PROPERTY,
+            "spring.datasource.url=jdbc:h2:mem:${random.uuid}?MODE=MYSQL;"
+        })
+@DisplayName("Query plans")
+class QueryPlanTests {
+    private static final String FULL_SCAN = "tableScan";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TimelineRepository timelineRepository;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleCommentService articleCommentService;
+
+    @Autowired
+    private SocialService socialService;
+
+    @Test
+    @DisplayName("article facet, feed and follow queries are served by indexes.")
+    void article_facet_feed_and_follow_queries_do_not_scan_tables() throws SQLException {
+        // given
+        User author = userRepository.save(new User("plan-author@realworld.io", "plan-author", "password"));
+        User reader = userRepository.save(new User("plan-reader@realworld.io", "plan-reader", "password"));
+        articleService.publishArticle(
+                new Article(author, "plan article", "description", "content"), List.of(new Tag("plan-tag")));
+        Article article = articleService.readArticleBySlug("plan-article");
+        articleService.favoriteArticle(reader, article);
+        socialService.follow(reader, author);
+
+        // when
+        RecordingStatementInspector.start();
+        articleService.readArticles(new ArticleFacets("plan-tag", null, null, 0, 20));
+        articleService.readArticles(new ArticleFacets(null, "plan-author", null, 0, 20));
+        articleService.readArticles(reader, new ArticleFacets(null, null, "plan-reader", 0, 20));
+        articleService.readArticles(reader, new ArticleFacets("plan-tag", "plan-author", "plan-reader", 0, 20));
+        articleRepository.count(new ArticleFacets("plan-tag", null, null, 0, 20));
+        articleRepository.count(new ArticleFacets(null, null, "plan-reader", 0, 20));
+        userRepository.findPopular(1);
+        articleRepository.findFeed(reader, null, 20);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        assertDoNotScanTables(statements);
+    }
+
+    @Test
+    @DisplayName("slug, comment page, timeline and feed page queries are served by indexes.")
+    void slug_comment_timeline_and_feed_queries_do_not_scan_tables() throws SQLException {
+        // given
+        User author = userRepository.save(new User("page-author@realworld.io", "page-author", "password"));
+        User reader = userRepository.save(new User("page-reader@realworld.io", "page-reader", "password"));
+        socialService.follow(reader, author);
+        articleService.publishArticle(
+                new Article(author, "page article", "description", "content"), List.of(new Tag("page-tag")));
+        Article article = articleService.readArticleBySlug("page-article");
+        ArticleComment comment = articleCommentService.writeComment(new ArticleComment(article, reader, "comment"));
+
+        // when
+        RecordingStatementInspector.start();
+        articleRepository.findBySlug("page-article");
+        articleCommentService.readComments(article, null, 20);
+        articleCommentService.readComments(article, PageCursor.of(comment), 20);
+        timelineRepository.findArticles(reader, null, 20);
+        timelineRepository.findArticles(reader, PageCursor.of(article), 20);
+        articleRepository.findFeed(reader, PageCursor.of(article), 20);
+        articleRepository.findByAuthorIn(List.of(author), null, 20);
+        articleRepository.findByAuthorIn(List.of(author), PageCursor.of(article), 20);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        assertDoNotScanTables(statements);
+    }
+
+    private void assertDoNotScanTables(List<String> statements) throws SQLException {
+        assertThat(statements).isNotEmpty();
+        try (Connection connection = dataSource.getConnection()) {
+            for (String statement : statements) {
+                assertThat(explain(connection, statement)).as(statement).doesNotContain(FULL_SCAN);
+            }
+        }
+    }
+
+    private static String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            // Note: H2 plans with the parameters unset, so their values do not change the plan.
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
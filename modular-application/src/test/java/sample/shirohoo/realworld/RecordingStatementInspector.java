@@ -0,0 +1,40 @@
+package sample.shirohoo.realworld;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements prepared by the test thread. Batched statements are prepared once per
+ * batch, so a batch is recorded once however many rows it holds.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+    static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "sample.shirohoo.realworld.RecordingStatementInspector";
+
+    private static final List<String> statements = new ArrayList<>();
+
+    // Note: Only the test thread is recorded, scheduled jobs run their own queries meanwhile.
+    private static volatile Thread recordedThread;
+
+    static synchronized void start() {
+        statements.clear();
+        recordedThread = Thread.currentThread();
+    }
+
+    static synchronized List<String> stop() {
+        recordedThread = null;
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() == recordedThread) {
+            synchronized (RecordingStatementInspector.class) {
+                statements.add(sql);
+            }
+        }
+        return sql;
+    }
+}
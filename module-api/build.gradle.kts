@@ -15,9 +15,15 @@ dependencies {
     // annotation processor
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
+    // runtime only
+    runtimeOnly("org.bouncycastle:bcprov-jdk18on:1.76")
+
     // implementation
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
+    implementation("org.springframework:spring-tx")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
 
     // test implementation
     testImplementation("org.springframework.security:spring-security-test")
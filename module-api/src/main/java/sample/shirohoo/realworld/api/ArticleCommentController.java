@@ -1,7 +1,16 @@
 package sample.shirohoo.realworld.api;
 
-import java.util.UUID;
+import static java.util.stream.Collectors.toSet;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -9,7 +18,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,24 +34,29 @@ import sample.shirohoo.realworld.api.response.ArticleCommentResponse;
 import sample.shirohoo.realworld.api.response.MultipleCommentsResponse;
 import sample.shirohoo.realworld.api.response.SingleCommentResponse;
 import sample.shirohoo.realworld.core.model.ArticleComment;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.User;
 import sample.shirohoo.realworld.core.service.ArticleCommentService;
 import sample.shirohoo.realworld.core.service.ArticleService;
 import sample.shirohoo.realworld.core.service.SocialService;
-import sample.shirohoo.realworld.core.service.UserService;
 
 @RestController
 @RequiredArgsConstructor
 class ArticleCommentController {
-    private final UserService userService;
+    /** Number of streamed comments whose authors are checked for follow state at once. */
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private final AuthenticatedUsers authenticatedUsers;
     private final ArticleService articleService;
     private final SocialService socialService;
     private final ArticleCommentService articleCommentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/api/articles/{slug}/comments")
     public SingleCommentResponse doPost(
             Authentication authentication, @PathVariable String slug, @RequestBody WriteCommentRequest request) {
         var article = articleService.readArticleBySlug(slug);
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+        var requester = authenticatedUsers.getRequester(authentication);
         var articleComment = articleCommentService.writeComment(
                 new ArticleComment(article, requester, request.comment().body()));
 
@@ -43,28 +64,103 @@ class ArticleCommentController {
     }
 
     @GetMapping("/api/articles/{slug}/comments")
-    public MultipleCommentsResponse doGet(Authentication authentication, @PathVariable String slug) {
+    public MultipleCommentsResponse doGet(
+            Authentication authentication,
+            @PathVariable String slug,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
         var article = articleService.readArticleBySlug(slug);
-        var articleComments = articleCommentService.readComments(article);
+        var page = articleCommentService.readComments(article, PageCursor.decode(cursor), limit);
+        var articleComments = page.content();
+        var nextCursor = page.hasNext()
+                ? PageCursor.of(articleComments.get(articleComments.size() - 1)).encode()
+                : null;
 
-        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+        if (isAnonymous(authentication)) {
             return new MultipleCommentsResponse(
-                    articleComments.stream().map(ArticleCommentResponse::new).toList());
+                    articleComments.stream().map(ArticleCommentResponse::new).toList(), nextCursor);
         }
 
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
-        return new MultipleCommentsResponse(articleComments.stream()
-                .map(comment ->
-                        new ArticleCommentResponse(comment, socialService.isFollowing(requester, comment.getAuthor())))
-                .toList());
+        var requester = authenticatedUsers.getRequester(authentication);
+        var authors = articleComments.stream().map(ArticleComment::getAuthor).collect(toSet());
+        var followings = socialService.findFollowingAmong(requester, authors);
+
+        return new MultipleCommentsResponse(
+                articleComments.stream()
+                        .map(comment -> new ArticleCommentResponse(comment, followings.contains(comment.getAuthor())))
+                        .toList(),
+                nextCursor);
+    }
+
+    // Note: Without limit and cursor all comments are written in the same shape while they are read from the database.
+    @GetMapping(value = "/api/articles/{slug}/comments", params = {"!limit", "!cursor"})
+    public ResponseEntity<StreamingResponseBody> doGet(Authentication authentication, @PathVariable String slug) {
+        var article = articleService.readArticleBySlug(slug);
+        var requester = isAnonymous(authentication) ? null : authenticatedUsers.getRequester(authentication);
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            List<ArticleComment> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            Map<User, Boolean> followings = new HashMap<>();
+
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("comments");
+                articleCommentService.streamComments(article, comment -> {
+                    chunk.add(comment);
+                    if (chunk.size() == STREAM_CHUNK_SIZE) {
+                        this.writeChunk(writer, generator, requester, chunk, followings);
+                    }
+                });
+                this.writeChunk(writer, generator, requester, chunk, followings);
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @SuppressWarnings("MVCPathVariableInspection")
     @DeleteMapping("/api/articles/{slug}/comments/{id}")
     public void doDelete(Authentication authentication, @PathVariable("id") int commentId) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+        var requester = authenticatedUsers.getRequester(authentication);
         var articleComment = articleCommentService.readComment(commentId);
 
         articleCommentService.deleteComment(requester, articleComment);
     }
+
+    private void writeChunk(
+            ObjectWriter writer,
+            JsonGenerator generator,
+            User requester,
+            List<ArticleComment> chunk,
+            Map<User, Boolean> followings) {
+        // Note: Follow state is resolved once per chunk for the authors not seen yet, not once per author.
+        if (requester != null) {
+            var unseenAuthors = chunk.stream()
+                    .map(ArticleComment::getAuthor)
+                    .filter(author -> !followings.containsKey(author))
+                    .collect(toSet());
+            var followedAuthors = socialService.findFollowingAmong(requester, unseenAuthors);
+            unseenAuthors.forEach(author -> followings.put(author, followedAuthors.contains(author)));
+        }
+
+        try {
+            for (var comment : chunk) {
+                var response = requester == null
+                        ? new ArticleCommentResponse(comment)
+                        : new ArticleCommentResponse(comment, followings.get(comment.getAuthor()));
+                writer.writeValue(generator, response);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        chunk.clear();
+    }
+
+    private static boolean isAnonymous(Authentication authentication) {
+        return authentication == null || authentication instanceof AnonymousAuthenticationToken;
+    }
 }
@@ -1,8 +1,9 @@
 package sample.shirohoo.realworld.api;
 
-import static java.util.stream.Collectors.*;
+import static java.util.stream.Collectors.toSet;
 
-import java.util.UUID;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,26 +26,32 @@ import sample.shirohoo.realworld.api.response.SingleArticleResponse;
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleFacets;
 import sample.shirohoo.realworld.core.model.ArticleInfo;
+import sample.shirohoo.realworld.core.model.ArticlePatch;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.PageSlice;
+import sample.shirohoo.realworld.core.model.User;
 import sample.shirohoo.realworld.core.service.ArticleService;
-import sample.shirohoo.realworld.core.service.UserService;
+import sample.shirohoo.realworld.core.service.SocialService;
 
 @RestController
 @RequiredArgsConstructor
 class ArticleController {
-    private final UserService userService;
+    private final AuthenticatedUsers authenticatedUsers;
     private final ArticleService articleService;
+    private final SocialService socialService;
 
     @PostMapping("/api/articles")
     public SingleArticleResponse doPost(Authentication authentication, @RequestBody WriteArticleRequest request) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
-        var article = articleService.writeArticle(new Article(
-                requester,
-                request.article().title(),
-                request.article().description(),
-                request.article().body()));
-        var articleTags = articleService.addArticleTags(article, request.tags());
+        var requester = authenticatedUsers.getRequester(authentication);
+        var articleInfo = articleService.publishArticle(
+                new Article(
+                        requester,
+                        request.article().title(),
+                        request.article().description(),
+                        request.article().body()),
+                request.tags());
 
-        return new SingleArticleResponse(new ArticleInfo(article, articleTags, 0, false));
+        return new SingleArticleResponse(articleInfo);
     }
 
     @GetMapping("/api/articles")
@@ -54,19 +61,23 @@ class ArticleController {
             @RequestParam(value = "author", required = false) String author,
             @RequestParam(value = "favorited", required = false) String favorited,
             @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
-            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit) {
-        var facets = new ArticleFacets(tag, author, favorited, offset, limit);
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        var facets = new ArticleFacets(tag, author, favorited, offset, limit, PageCursor.decode(cursor));
 
+        PageSlice<ArticleInfo> articleInfos;
+        Set<User> followings;
         if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
-            return articleService.readArticles(facets).stream()
-                    .map(ArticleResponse::new)
-                    .collect(collectingAndThen(toList(), MultipleArticlesResponse::new));
+            articleInfos = articleService.readArticles(facets);
+            followings = Set.of();
+        } else {
+            var user = authenticatedUsers.getRequester(authentication);
+            articleInfos = articleService.readArticles(user, facets);
+            followings = this.findFollowingAuthors(user, articleInfos.content());
         }
 
-        var user = userService.getUserById(UUID.fromString(authentication.getName()));
-        return articleService.readArticles(user, facets).stream()
-                .map(ArticleResponse::new)
-                .collect(collectingAndThen(toList(), MultipleArticlesResponse::new));
+        var articlesCount = articleService.countArticles(facets).orElse(articleInfos.content().size());
+        return this.toMultipleArticlesResponse(articleInfos, followings, articlesCount);
     }
 
     @GetMapping("/api/articles/{slug}")
@@ -77,38 +88,31 @@ class ArticleController {
             return new SingleArticleResponse(articleService.getArticleInfoByAnonymous(article));
         }
 
-        var user = userService.getUserById(UUID.fromString(authentication.getName()));
-        return new SingleArticleResponse(articleService.getArticleInfoByUser(user, article));
+        var user = authenticatedUsers.getRequester(authentication);
+        return new SingleArticleResponse(
+                articleService.getArticleInfoByUser(user, article),
+                socialService.isFollowing(user, article.getAuthor()));
     }
 
     @PutMapping("/api/articles/{slug}")
     public SingleArticleResponse doPut(
             Authentication authentication, @PathVariable String slug, @RequestBody EditArticleRequest request) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+        var requester = authenticatedUsers.getRequester(authentication);
         var article = articleService.readArticleBySlug(slug);
 
-        if (request.article().title() != null) {
-            article = articleService.editTitle(
-                    requester, article, request.article().title());
-        }
-
-        if (request.article().description() != null) {
-            article = articleService.editDescription(
-                    requester, article, request.article().description());
-        }
-
-        if (request.article().body() != null) {
-            article = articleService.editContent(
-                    requester, article, request.article().body());
-        }
-
-        var articleInfo = articleService.getArticleInfoByUser(requester, article);
+        var articleInfo = articleService.editArticle(
+                requester,
+                article,
+                new ArticlePatch(
+                        request.article().title(),
+                        request.article().description(),
+                        request.article().body()));
         return new SingleArticleResponse(articleInfo);
     }
 
     @DeleteMapping("/api/articles/{slug}")
     public void doDelete(Authentication authentication, @PathVariable String slug) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+        var requester = authenticatedUsers.getRequester(authentication);
         var article = articleService.readArticleBySlug(slug);
 
         articleService.deleteArticle(requester, article);
@@ -118,12 +122,37 @@ class ArticleController {
     public MultipleArticlesResponse doGet(
             Authentication authentication, // Must be verified
             @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
-            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit) {
-        var facets = new ArticleFacets(offset, limit);
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        var facets = new ArticleFacets(offset, limit, PageCursor.decode(cursor));
+        var requester = authenticatedUsers.getRequester(authentication);
+
+        var articleInfos = articleService.readFeeds(requester, facets);
+        var followings = this.findFollowingAuthors(requester, articleInfos.content());
+        return this.toMultipleArticlesResponse(articleInfos, followings, articleInfos.content().size());
+    }
+
+    private Set<User> findFollowingAuthors(User requester, List<ArticleInfo> articleInfos) {
+        var authors = articleInfos.stream()
+                .map(articleInfo -> articleInfo.article().getAuthor())
+                .collect(toSet());
+
+        return socialService.findFollowingAmong(requester, authors);
+    }
+
+    private MultipleArticlesResponse toMultipleArticlesResponse(
+            PageSlice<ArticleInfo> articleInfos, Set<User> followings, int articlesCount) {
+        var articles = articleInfos.content().stream()
+                .map(articleInfo -> new ArticleResponse(
+                        articleInfo, followings.contains(articleInfo.article().getAuthor())))
+                .toList();
+
+        // Note: The cursor is only offered when the page was read with a row after it.
+        if (articleInfos.content().isEmpty() || !articleInfos.hasNext()) {
+            return new MultipleArticlesResponse(articles, articlesCount, null);
+        }
 
-        return articleService.readFeeds(requester, facets).stream()
-                .map(ArticleResponse::new)
-                .collect(collectingAndThen(toList(), MultipleArticlesResponse::new));
+        var lastArticle = articleInfos.content().get(articleInfos.content().size() - 1).article();
+        return new MultipleArticlesResponse(articles, articlesCount, PageCursor.of(lastArticle).encode());
     }
 }
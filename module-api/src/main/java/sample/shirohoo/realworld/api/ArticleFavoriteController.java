@@ -1,7 +1,5 @@
 package sample.shirohoo.realworld.api;
 
-import java.util.UUID;
-
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,31 +10,26 @@ import lombok.RequiredArgsConstructor;
 
 import sample.shirohoo.realworld.api.response.SingleArticleResponse;
 import sample.shirohoo.realworld.core.service.ArticleService;
-import sample.shirohoo.realworld.core.service.UserService;
 
 @RestController
 @RequiredArgsConstructor
 class ArticleFavoriteController {
-    private final UserService userService;
+    private final AuthenticatedUsers authenticatedUsers;
     private final ArticleService articleService;
 
     @PostMapping("/api/articles/{slug}/favorite")
     public SingleArticleResponse doPost(Authentication authentication, @PathVariable String slug) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+        var requester = authenticatedUsers.getRequester(authentication);
         var article = articleService.readArticleBySlug(slug);
 
-        articleService.favoriteArticle(requester, article);
-
-        return new SingleArticleResponse(articleService.getArticleInfoByUser(requester, article));
+        return new SingleArticleResponse(articleService.favoriteArticle(requester, article));
     }
 
     @DeleteMapping("/api/articles/{slug}/favorite")
     public SingleArticleResponse doDelete(Authentication authentication, @PathVariable String slug) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
+        var requester = authenticatedUsers.getRequester(authentication);
         var article = articleService.readArticleBySlug(slug);
 
-        articleService.unfavoriteArticle(requester, article);
-
-        return new SingleArticleResponse(articleService.getArticleInfoByUser(requester, article));
+        return new SingleArticleResponse(articleService.unfavoriteArticle(requester, article));
     }
 }
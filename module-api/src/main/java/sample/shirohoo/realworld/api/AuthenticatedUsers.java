@@ -0,0 +1,36 @@
+package sample.shirohoo.realworld.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import lombok.RequiredArgsConstructor;
+
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.service.UserService;
+
+/**
+ * Identity map of the users loaded during one request, so that the requester is loaded at most
+ * once per request no matter how many times it is asked for.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+class AuthenticatedUsers {
+    private final UserService userService;
+    private final Map<UUID, User> users = new HashMap<>();
+
+    /**
+     * Get the user who sent the request.
+     *
+     * @param authentication authentication of the request
+     * @return Returns the requester
+     */
+    public User getRequester(Authentication authentication) {
+        return users.computeIfAbsent(UUID.fromString(authentication.getName()), userService::getUserById);
+    }
+}
@@ -1,7 +1,5 @@
 package sample.shirohoo.realworld.api;
 
-import java.util.UUID;
-
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +18,7 @@ import sample.shirohoo.realworld.core.service.UserService;
 @RequiredArgsConstructor
 class SocialController {
     private final UserService userService;
+    private final AuthenticatedUsers authenticatedUsers;
     private final SocialService socialService;
 
     @GetMapping("/api/profiles/{username}")
@@ -30,7 +29,7 @@ class SocialController {
             return ProfilesResponse.from(targetUser);
         }
 
-        var me = userService.getUserById(UUID.fromString(authentication.getName()));
+        var me = authenticatedUsers.getRequester(authentication);
         boolean isFollowing = socialService.isFollowing(me, targetUser);
 
         return ProfilesResponse.from(targetUser, isFollowing);
@@ -38,7 +37,7 @@ class SocialController {
 
     @PostMapping("/api/profiles/{username}/follow")
     public ProfilesResponse doPost(Authentication authentication, @PathVariable("username") String targetUsername) {
-        var follower = userService.getUserById(UUID.fromString(authentication.getName()));
+        var follower = authenticatedUsers.getRequester(authentication);
         var following = userService.getUserByUsername(targetUsername);
 
         socialService.follow(follower, following);
@@ -48,7 +47,7 @@ class SocialController {
 
     @DeleteMapping("/api/profiles/{username}/follow")
     public ProfilesResponse doDelete(Authentication authentication, @PathVariable("username") String targetUsername) {
-        var follower = userService.getUserById(UUID.fromString(authentication.getName()));
+        var follower = authenticatedUsers.getRequester(authentication);
         var following = userService.getUserByUsername(targetUsername);
 
         socialService.unfollow(follower, following);
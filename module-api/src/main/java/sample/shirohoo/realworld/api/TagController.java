@@ -1,20 +1,56 @@
 package sample.shirohoo.realworld.api;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
 import sample.shirohoo.realworld.api.response.TagsResponse;
+import sample.shirohoo.realworld.core.model.Tag;
 import sample.shirohoo.realworld.core.service.TagService;
 
 @RestController
 @RequiredArgsConstructor
 class TagController {
     private final TagService tagService;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<SerializedTags> serializedTags = new AtomicReference<>();
 
     @GetMapping("/api/tags")
-    public TagsResponse doGet() {
-        return new TagsResponse(tagService.getTags());
+    public ResponseEntity<byte[]> doGet() {
+        var tags = tagService.getTags();
+
+        // Note: The tag list is the same instance until a tag is added, so it is only serialized once per change.
+        var serialized = serializedTags.get();
+        if (serialized == null || serialized.tags() != tags) {
+            serialized = this.serialize(tags);
+            serializedTags.set(serialized);
+        }
+
+        // Note: With an ETag, a request with a matching If-None-Match is answered with 304 Not Modified.
+        return ResponseEntity.ok()
+                .eTag(serialized.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(serialized.body());
     }
+
+    private SerializedTags serialize(List<Tag> tags) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new TagsResponse(tags));
+            return new SerializedTags(tags, body, DigestUtils.md5DigestAsHex(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize tags.", e);
+        }
+    }
+
+    private record SerializedTags(List<Tag> tags, byte[] body, String eTag) {}
 }
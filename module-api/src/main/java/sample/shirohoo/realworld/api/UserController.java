@@ -1,11 +1,10 @@
 package sample.shirohoo.realworld.api;
 
-import java.util.Map;
-import java.util.UUID;
-
-import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,41 +12,53 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.ModelAndView;
-import org.springframework.web.servlet.View;
-
-import lombok.RequiredArgsConstructor;
 
 import sample.shirohoo.realworld.api.request.LoginUserRequest;
 import sample.shirohoo.realworld.api.request.SignupRequest;
 import sample.shirohoo.realworld.api.request.UpdateUserRequest;
 import sample.shirohoo.realworld.api.response.UsersResponse;
+import sample.shirohoo.realworld.core.model.UserPatch;
 import sample.shirohoo.realworld.core.model.UserRegistry;
 import sample.shirohoo.realworld.core.service.UserService;
 
 @RestController
-@RequiredArgsConstructor
 class UserController {
     private static final String LOGIN_URL = "/api/users/login";
 
     private final UserService userService;
+    private final AuthenticatedUsers authenticatedUsers;
     private final RealworldBearerTokenProvider bearerTokenProvider;
+    private final boolean signupRedirect;
+
+    UserController(
+            UserService userService,
+            AuthenticatedUsers authenticatedUsers,
+            RealworldBearerTokenProvider bearerTokenProvider,
+            @Value("${realworld.user.signup-redirect:false}") boolean signupRedirect) {
+        this.userService = userService;
+        this.authenticatedUsers = authenticatedUsers;
+        this.bearerTokenProvider = bearerTokenProvider;
+        this.signupRedirect = signupRedirect;
+    }
 
     @PostMapping("/api/users")
-    public ModelAndView doPost(HttpServletRequest httpServletRequest, @RequestBody SignupRequest request) {
+    public ResponseEntity<UsersResponse> doPost(@RequestBody SignupRequest request) {
         var userRegistry = new UserRegistry(
                 request.user().email(),
                 request.user().username(),
                 request.user().password());
 
-        userService.signup(userRegistry);
+        var user = userService.signup(userRegistry);
 
-        // Redirect to login API to automatically login when signup is complete
-        var loginRequest =
-                new LoginUserRequest(request.user().email(), request.user().password());
-        httpServletRequest.setAttribute(View.RESPONSE_STATUS_ATTRIBUTE, HttpStatus.TEMPORARY_REDIRECT);
+        // Note: Clients written against the former behavior re-send the signup body to the login API.
+        if (signupRedirect) {
+            return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT)
+                    .location(URI.create(LOGIN_URL))
+                    .build();
+        }
 
-        return new ModelAndView("redirect:" + LOGIN_URL, "user", Map.of("user", loginRequest));
+        var accessToken = bearerTokenProvider.getToken(user);
+        return ResponseEntity.status(HttpStatus.CREATED).body(UsersResponse.from(accessToken.getTokenValue(), user));
     }
 
     @ResponseStatus(HttpStatus.CREATED)
@@ -64,19 +75,22 @@ class UserController {
 
     @GetMapping("/api/user")
     public UsersResponse doGet(JwtAuthenticationToken authentication) {
-        var user = userService.getUserById(UUID.fromString(authentication.getName()));
+        var user = authenticatedUsers.getRequester(authentication);
 
         return UsersResponse.from(authentication.getToken().getTokenValue(), user);
     }
 
     @PutMapping("/api/user")
     public UsersResponse doPut(JwtAuthenticationToken authentication, @RequestBody UpdateUserRequest request) {
-        var requester = userService.getUserById(UUID.fromString(authentication.getName()));
-        requester = userService.updateEmail(requester, request.user().email());
-        requester = userService.updateUsername(requester, request.user().username());
-        requester = userService.updatePassword(requester, request.user().password());
-        requester = userService.updateBio(requester, request.user().bio());
-        requester = userService.updateImageUrl(requester, request.user().image());
+        var requester = authenticatedUsers.getRequester(authentication);
+        requester = userService.updateProfile(
+                requester,
+                new UserPatch(
+                        request.user().email(),
+                        request.user().username(),
+                        request.user().password(),
+                        request.user().bio(),
+                        request.user().image()));
 
         return UsersResponse.from(authentication.getToken().getTokenValue(), requester);
     }
@@ -20,10 +20,28 @@ public record ArticleResponse(
         int favoritesCount,
         ProfileResponse author) {
     public ArticleResponse(ArticleInfo articleInfo) {
-        this(articleInfo.article(), articleInfo.articleTags(), articleInfo.favorited(), articleInfo.favoritesCount());
+        this(articleInfo, false);
+    }
+
+    public ArticleResponse(ArticleInfo articleInfo, boolean following) {
+        this(
+                articleInfo.article(),
+                articleInfo.articleTags(),
+                articleInfo.favorited(),
+                articleInfo.favoritesCount(),
+                following);
     }
 
     public ArticleResponse(Article article, Collection<ArticleTag> articleTags, boolean favorited, int favoritesCount) {
+        this(article, articleTags, favorited, favoritesCount, false);
+    }
+
+    public ArticleResponse(
+            Article article,
+            Collection<ArticleTag> articleTags,
+            boolean favorited,
+            int favoritesCount,
+            boolean following) {
         this(
                 article.getSlug(),
                 article.getTitle(),
@@ -34,6 +52,6 @@ public record ArticleResponse(
                 article.getUpdatedAt(),
                 favorited,
                 favoritesCount,
-                ProfileResponse.from(article.getAuthor(), false));
+                ProfileResponse.from(article.getAuthor(), following));
     }
 }
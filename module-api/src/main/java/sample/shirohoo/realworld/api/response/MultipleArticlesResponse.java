@@ -2,12 +2,13 @@ package sample.shirohoo.realworld.api.response;
 
 import java.util.List;
 
-public record MultipleArticlesResponse(List<ArticleResponse> articles, int articlesCount) {
-    public MultipleArticlesResponse {
-        articlesCount = articles.size();
-    }
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+public record MultipleArticlesResponse(
+        List<ArticleResponse> articles,
+        int articlesCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
     public MultipleArticlesResponse(List<ArticleResponse> articles) {
-        this(articles, articles.size());
+        this(articles, articles.size(), null);
     }
 }
@@ -2,4 +2,7 @@ package sample.shirohoo.realworld.api.response;
 
 import java.util.List;
 
-public record MultipleCommentsResponse(List<ArticleCommentResponse> comments) {}
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record MultipleCommentsResponse(
+        List<ArticleCommentResponse> comments, @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {}
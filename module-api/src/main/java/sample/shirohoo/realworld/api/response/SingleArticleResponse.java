@@ -4,10 +4,10 @@ import sample.shirohoo.realworld.core.model.ArticleInfo;
 
 public record SingleArticleResponse(ArticleResponse article) {
     public SingleArticleResponse(ArticleInfo articleInfo) {
-        this(new ArticleResponse(
-                articleInfo.article(),
-                articleInfo.articleTags(),
-                articleInfo.favorited(),
-                articleInfo.favoritesCount()));
+        this(new ArticleResponse(articleInfo));
+    }
+
+    public SingleArticleResponse(ArticleInfo articleInfo, boolean following) {
+        this(new ArticleResponse(articleInfo, following));
     }
 }
@@ -1,7 +1,11 @@
 package sample.shirohoo.realworld.config;
 
+import java.sql.SQLException;
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.AccessDeniedException;
@@ -15,12 +19,35 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RestControllerAdvice
 class InterceptorsExceptionHandler extends ResponseEntityExceptionHandler {
+    /** SQL state of a unique constraint violation, as reported by H2 and PostgreSQL. */
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    /** MySQL error code of a duplicate entry, reported with the generic integrity SQL state. */
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ProblemDetail handleOn(IllegalArgumentException e) {
         log.info(e.getMessage(), e);
         return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
     }
 
+    /**
+     * A unique constraint violated by a concurrent request is reported like the failed check that
+     * would have caught it, without the SQL details. Other integrity violations are unexpected.
+     *
+     * @param e Exception
+     * @return ProblemDetail
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail handleOn(DataIntegrityViolationException e) {
+        if (!isUniqueViolation(e)) {
+            return this.handleOn((Exception) e);
+        }
+
+        log.info(e.getMessage(), e);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "the request conflicts with existing data.");
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ProblemDetail handleOn(NoSuchElementException e) {
         log.info(e.getMessage(), e);
@@ -39,6 +66,12 @@ class InterceptorsExceptionHandler extends ResponseEntityExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, e.getMessage());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ProblemDetail handleOn(RejectedExecutionException e) {
+        log.warn(e.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+    }
+
     /**
      * Errors that the developer did not expect are handled here and the log level is recorded as
      * error.
@@ -51,4 +84,19 @@ class InterceptorsExceptionHandler extends ResponseEntityExceptionHandler {
         log.error(e.getMessage(), e);
         return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Please contact the administrator.");
     }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+
+        // Note: JPA reports every constraint violation the same way, so the SQL state tells unique keys apart.
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                        || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+            }
+        }
+        return false;
+    }
 }
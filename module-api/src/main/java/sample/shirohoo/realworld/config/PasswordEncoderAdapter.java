@@ -1,20 +1,75 @@
 package sample.shirohoo.realworld.config;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import sample.shirohoo.realworld.core.model.PasswordEncoder;
 
-@RequiredArgsConstructor
-class PasswordEncoderAdapter implements PasswordEncoder {
+/**
+ * Runs password hashing on a dedicated, bounded pool, so that a burst of logins cannot occupy all
+ * request threads with expensive hashing.
+ *
+ * <p>Note: When all hashing threads are busy and the queue is full, the request is rejected right
+ * away with a {@link RejectedExecutionException} instead of waiting.
+ */
+class PasswordEncoderAdapter implements PasswordEncoder, AutoCloseable {
     private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingExecutor;
+
+    PasswordEncoderAdapter(
+            org.springframework.security.crypto.password.PasswordEncoder passwordEncoder,
+            int threads,
+            int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                (task, executor) -> {
+                    throw new RejectedExecutionException("too many password requests, please try again later.");
+                });
+    }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return this.hash(() -> passwordEncoder.matches(rawPassword, encodedPassword));
     }
 
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return this.hash(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        hashingExecutor.shutdown();
+    }
+
+    private <T> T hash(Callable<T> task) {
+        try {
+            return hashingExecutor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while hashing password.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 }
@@ -0,0 +1,77 @@
+package sample.shirohoo.realworld.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+/**
+ * PBKDF2 with the iteration count stored in front of the hash, as {@code iterations$hash}. Plain
+ * PBKDF2 hashes do not record their iteration count, so changing the configured count would stop
+ * them from matching and could never tell that they should be upgraded.
+ *
+ * <p>Note: Hashes without an iteration count were made before it was stored, with the configured
+ * count, and are upgraded on the next login.
+ */
+class Pbkdf2IterationsPasswordEncoder implements PasswordEncoder {
+    private static final char SEPARATOR = '$';
+    private static final int SALT_LENGTH = 16;
+
+    private final int iterations;
+    private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    Pbkdf2IterationsPasswordEncoder(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be greater than 0.");
+        }
+
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + String.valueOf(SEPARATOR) + this.encoderOf(iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return this.encoderOf(iterations).matches(rawPassword, encodedPassword);
+        }
+
+        int hashIterations = iterationsOf(encodedPassword, separator);
+        return hashIterations > 0
+                && this.encoderOf(hashIterations).matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        return separator < 0 || iterationsOf(encodedPassword, separator) != iterations;
+    }
+
+    private Pbkdf2PasswordEncoder encoderOf(int iterations) {
+        return encoders.computeIfAbsent(
+                iterations,
+                key -> new Pbkdf2PasswordEncoder("", SALT_LENGTH, key, SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+    }
+
+    private static int iterationsOf(String encodedPassword, int separator) {
+        try {
+            return Integer.parseInt(encodedPassword, 0, separator, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -14,8 +15,9 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
@@ -77,13 +79,36 @@ class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new PasswordEncoderAdapter(new BCryptPasswordEncoder());
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.algorithm:bcrypt}") String algorithm,
+            @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${security.password.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+            @Value("${security.password.hashing.threads:4}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity) {
+        var encoders = Map.of(
+                "bcrypt",
+                new BCryptPasswordEncoder(bcryptStrength),
+                "pbkdf2",
+                new Pbkdf2IterationsPasswordEncoder(pbkdf2Iterations),
+                "argon2",
+                Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("unsupported password algorithm: " + algorithm);
+        }
+
+        var passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+
+        // Note: Passwords stored before the algorithm became configurable are plain BCrypt hashes without an id.
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+
+        return new PasswordEncoderAdapter(passwordEncoder, threads, queueCapacity);
     }
 
     @Bean
-    public JwtDecoder jwtDecoder(@Value("${security.key.public}") RSAPublicKey rsaPublicKey) {
-        return NimbusJwtDecoder.withPublicKey(rsaPublicKey).build();
+    public CachingJwtDecoder jwtDecoder(
+            @Value("${security.key.public}") RSAPublicKey rsaPublicKey,
+            @Value("${security.jwt.cache.maximum-size:10000}") long maximumSize) {
+        return new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(rsaPublicKey).build(), maximumSize);
     }
 
     @Bean
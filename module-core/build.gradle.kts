@@ -16,9 +16,14 @@ dependencies {
     // annotation processor
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
+    // compile only
+    compileOnly("org.hibernate.orm:hibernate-core")
+
     // implementation
     implementation("jakarta.persistence:jakarta.persistence-api")
     implementation("org.springframework.boot:spring-boot-starter")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
 
     // test implementation
     testImplementation("org.springframework.boot:spring-boot-starter-test") {
@@ -8,8 +8,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,10 +23,20 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@DynamicUpdate
+@Where(clause = "deleted_at is null")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "article",
+        indexes = {
+            @Index(name = "idx_article_created_at_id", columnList = "created_at, id"),
+            @Index(name = "idx_article_author_id_created_at_id", columnList = "author_id, created_at, id")
+        })
 public class Article {
+    // Note: Ids are allocated from a pooled sequence, so that inserts can be batched unlike with identity columns.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_id")
+    @SequenceGenerator(name = "article_id", sequenceName = "article_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
@@ -44,6 +60,17 @@ public class Article {
 
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Note: Counters are only changed by ArticleCounterRepository, so merging a stale instance must not overwrite them.
+    @Column(nullable = false, updatable = false)
+    private int favoritesCount;
+
+    @Column(nullable = false, updatable = false)
+    private int commentsCount;
+
+    // Note: Set when the article is deleted but its comments are still being purged, such articles are never loaded.
+    @Column(updatable = false)
+    private LocalDateTime deletedAt;
+
     private static String titleToSlug(String title) {
         return title.toLowerCase().replaceAll("\\s+", "-");
     }
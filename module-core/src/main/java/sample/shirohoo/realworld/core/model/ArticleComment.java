@@ -8,8 +8,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -20,9 +23,16 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "article_comment",
+        indexes =
+                @Index(
+                        name = "idx_article_comment_article_id_created_at_id",
+                        columnList = "article_id, created_at, id"))
 public class ArticleComment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_comment_id")
+    @SequenceGenerator(name = "article_comment_id", sequenceName = "article_comment_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
@@ -2,13 +2,39 @@ package sample.shirohoo.realworld.core.model;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ArticleCommentRepository {
     ArticleComment save(ArticleComment articleComment);
 
+    /**
+     * Save several comments with one batch in one transaction.
+     *
+     * @param articleComments comments
+     * @return Returns the saved comments in the same order
+     */
+    List<ArticleComment> saveAll(List<ArticleComment> articleComments);
+
     Optional<ArticleComment> findById(int commentId);
 
-    List<ArticleComment> findByArticleOrderByCreatedAtDesc(Article article);
+    /**
+     * Get the latest comments of the article, latest first.
+     *
+     * @param article article
+     * @param cursor position to start after, or {@code null} to start from the latest comment
+     * @param limit maximum number of comments
+     * @return Returns comments of the article
+     */
+    List<ArticleComment> findByArticle(Article article, PageCursor cursor, int limit);
+
+    /**
+     * Pass all comments of the article to the action, latest first, while they are read from the
+     * database. The comments are not kept in memory.
+     *
+     * @param article article
+     * @param action action to run for each comment
+     */
+    void forEachByArticle(Article article, Consumer<ArticleComment> action);
 
     void delete(ArticleComment articleComment);
 }
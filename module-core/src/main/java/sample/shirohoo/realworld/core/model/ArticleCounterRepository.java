@@ -0,0 +1,13 @@
+package sample.shirohoo.realworld.core.model;
+
+/**
+ * Maintains the denormalized favorites and comments counters of articles.
+ *
+ * <p>Note: Counters of popular articles may be spread over several rows to avoid lock contention,
+ * so a stored counter can lag behind for a short while until the rows are folded into the article.
+ */
+public interface ArticleCounterRepository {
+    void addFavoritesCount(Article article, int delta);
+
+    void addCommentsCount(Article article, int delta);
+}
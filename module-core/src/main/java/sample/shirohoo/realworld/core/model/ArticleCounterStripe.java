@@ -0,0 +1,71 @@
+package sample.shirohoo.realworld.core.model;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One of several rows that accumulate counter changes of a popular article, so that concurrent
+ * updates do not wait for each other on the article row. Stripes are periodically folded into the
+ * counters of the {@link Article}.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "article_counter_stripe",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"article_id", "stripe"})})
+public class ArticleCounterStripe {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne
+    @JoinColumn(name = "article_id", nullable = false)
+    private Article article;
+
+    @Column(nullable = false, updatable = false)
+    private int stripe;
+
+    @Column(nullable = false)
+    private int favoritesCount;
+
+    @Column(nullable = false)
+    private int commentsCount;
+
+    public ArticleCounterStripe(Article article, int stripe, int favoritesCount, int commentsCount) {
+        if (article == null || article.getId() == null) {
+            throw new IllegalArgumentException("article is null or unknown article.");
+        }
+        if (stripe < 0) {
+            throw new IllegalArgumentException("stripe must not be negative.");
+        }
+
+        this.article = article;
+        this.stripe = stripe;
+        this.favoritesCount = favoritesCount;
+        this.commentsCount = commentsCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ArticleCounterStripe other && Objects.equals(this.getId(), other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
@@ -2,18 +2,20 @@ package sample.shirohoo.realworld.core.model;
 
 /**
  * The {@code ArticleFacets} class represents a set of facets for querying articles, including tag,
- * author, favorited status, page, and size.
+ * author, favorited status, page, size and cursor.
  *
- * <p>Note: The {@code page} parameter is 0-based, i.e., it starts from 0.
+ * <p>Note: The {@code page} parameter is 0-based, i.e., it starts from 0. If a {@code cursor} is
+ * given, the {@code page} parameter is ignored and the page starts right after the cursor.
  *
  * @param tag The tag for filtering articles.
  * @param author The author for filtering articles.
  * @param favorited The favorited status for filtering articles.
  * @param page The 0-based page number for paginated results.
  * @param size The size of the result set, limited to a range between 0 and 50.
+ * @param cursor The position of the last article of the previous page, or {@code null}.
  * @see ArticleFacets#ArticleFacets(int, int)
  */
-public record ArticleFacets(String tag, String author, String favorited, int page, int size) {
+public record ArticleFacets(String tag, String author, String favorited, int page, int size, PageCursor cursor) {
     public ArticleFacets {
         if (page < 0) {
             throw new IllegalArgumentException("page must be greater than 0.");
@@ -23,7 +25,15 @@ public record ArticleFacets(String tag, String author, String favorited, int pag
         }
     }
 
+    public ArticleFacets(String tag, String author, String favorited, int page, int size) {
+        this(tag, author, favorited, page, size, null);
+    }
+
+    public ArticleFacets(int page, int size, PageCursor cursor) {
+        this(null, null, null, page, size, cursor);
+    }
+
     public ArticleFacets(int page, int size) {
-        this(null, null, null, page, size);
+        this(page, size, null);
     }
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "article_favorite",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "article_id"})})
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "article_id"})},
+        indexes = {@Index(name = "idx_article_favorite_article_id", columnList = "article_id, user_id")})
 public class ArticleFavorite {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
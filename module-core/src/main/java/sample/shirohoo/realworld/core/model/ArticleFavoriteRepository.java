@@ -1,9 +1,31 @@
 package sample.shirohoo.realworld.core.model;
 
+import java.util.List;
+
 public interface ArticleFavoriteRepository {
-    void save(ArticleFavorite articleFavorite);
+    /**
+     * Save the favorite and add it to the favorites count of the article, in one transaction.
+     *
+     * @param articleFavorite favorite
+     */
+    void saveAndCount(ArticleFavorite articleFavorite);
 
-    void deleteByUserAndArticle(User user, Article article);
+    /**
+     * Delete the favorite and subtract it from the favorites count of the article, in one transaction.
+     * The count is left unchanged if there was no such favorite.
+     *
+     * @param user user
+     * @param article article
+     */
+    void deleteAndCount(User user, Article article);
 
     boolean existsByUserAndArticle(User user, Article article);
+
+    /**
+     * Get the positions of all articles the user has favorited, without loading the articles.
+     *
+     * @param user user
+     * @return Returns the creation time and id of every article
+     */
+    List<PageCursor> findArticlePositionsByUser(User user);
 }
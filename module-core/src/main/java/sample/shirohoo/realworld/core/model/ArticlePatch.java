@@ -0,0 +1,22 @@
+package sample.shirohoo.realworld.core.model;
+
+/**
+ * Changes to an article. A {@code null} field is left unchanged.
+ *
+ * @param title new article title
+ * @param description new article description
+ * @param content new article content
+ */
+public record ArticlePatch(String title, String description, String content) {
+    public ArticlePatch {
+        if (title != null && title.isBlank()) {
+            throw new IllegalArgumentException("title must not be blank.");
+        }
+        if (description != null && description.isBlank()) {
+            throw new IllegalArgumentException("description must not be blank.");
+        }
+        if (content != null && content.isBlank()) {
+            throw new IllegalArgumentException("content must not be blank.");
+        }
+    }
+}
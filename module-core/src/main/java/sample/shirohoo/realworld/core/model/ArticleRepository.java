@@ -3,21 +3,106 @@ package sample.shirohoo.realworld.core.model;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ArticleRepository {
     Article save(Article article);
 
-    List<Article> findAll(ArticleFacets facets);
+    /**
+     * Save a new article together with its tags in one transaction. All inserts are sent in JDBC
+     * batches.
+     *
+     * @param article new article
+     * @param tags stored tags of the article, see {@link TagRepository#resolveOrCreate(Collection)}
+     * @return Returns the article's tags
+     */
+    Set<ArticleTag> publish(Article article, Collection<Tag> tags);
+
+    /**
+     * Get a page of articles matching the facets, latest first.
+     *
+     * @param facets article facets
+     * @return Returns the page, with whether another page follows
+     */
+    PageSlice<Article> findAll(ArticleFacets facets);
+
+    /**
+     * Count all articles matching the facets, ignoring page, size and cursor.
+     *
+     * @param facets article facets
+     * @return Returns the number of matching articles
+     */
+    int count(ArticleFacets facets);
 
     Optional<Article> findBySlug(String slug);
 
-    List<Article> findByAuthorInOrderByCreatedAtDesc(Collection<User> authors, ArticleFacets facets);
+    /**
+     * Get articles by primary key, together with their authors.
+     *
+     * @param ids article ids
+     * @return Returns the articles in the same order as the given ids, missing or deleted ones are left out
+     */
+    List<Article> findByIdIn(List<Integer> ids);
+
+    /**
+     * Get the latest articles of the authors the follower follows, latest first. The followings are
+     * joined in the database instead of being passed in.
+     *
+     * @param follower follower
+     * @param cursor position to start after, or {@code null} to start from the latest article
+     * @param limit maximum number of articles
+     * @return Returns articles of the followings
+     */
+    List<Article> findFeed(User follower, PageCursor cursor, int limit);
+
+    /**
+     * Get a page of the latest articles of the authors the follower follows, latest first.
+     *
+     * @param follower follower
+     * @param facets article facets, only page, size and cursor are used
+     * @return Returns the page, with whether another page follows
+     */
+    PageSlice<Article> findFeed(User follower, ArticleFacets facets);
+
+    /**
+     * Get the latest articles of the authors, latest first.
+     *
+     * @param authors authors
+     * @param cursor position to start after, or {@code null} to start from the latest article
+     * @param limit maximum number of articles
+     * @return Returns articles of the authors
+     */
+    List<Article> findByAuthorIn(Collection<User> authors, PageCursor cursor, int limit);
 
     ArticleInfo findArticleInfoByAnonymous(Article article);
 
     ArticleInfo findArticleInfoByUser(User requester, Article article);
 
+    /**
+     * Get article information of several articles at once.
+     *
+     * @param requester user who requested, or {@code null} for anonymous
+     * @param articles articles
+     * @return Returns article information in the same order as the given articles
+     */
+    List<ArticleInfo> findArticleInfos(User requester, List<Article> articles);
+
+    /**
+     * Delete the article with its tags, comments and favorites. An article with many comments is
+     * hidden at once and purged in the background.
+     *
+     * @param article article
+     */
     void delete(Article article);
 
     boolean existsByTitle(String title);
+
+    /**
+     * Pass the title of every article to the action, while they are read from the database. Titles
+     * of deleted articles that are not purged yet are included, as in {@link #existsByTitle(String)}.
+     *
+     * @param action action to run for each title
+     */
+    void forEachTitle(Consumer<String> action);
 }
@@ -8,8 +8,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -22,10 +24,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "article_tag",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"article_id", "tag_id"})})
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"article_id", "tag_id"})},
+        indexes = {@Index(name = "idx_article_tag_tag_id", columnList = "tag_id, article_id")})
 public class ArticleTag {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_tag_id")
+    @SequenceGenerator(name = "article_tag_id", sequenceName = "article_tag_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
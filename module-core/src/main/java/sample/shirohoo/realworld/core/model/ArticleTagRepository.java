@@ -9,4 +9,12 @@ public interface ArticleTagRepository {
     List<ArticleTag> saveAll(Collection<ArticleTag> articleTags);
 
     Set<ArticleTag> findByArticleAndTagIn(Article article, Collection<Tag> tags);
+
+    /**
+     * Get the positions of all articles tagged with the tag, without loading the articles.
+     *
+     * @param tagName tag name
+     * @return Returns the creation time and id of every article
+     */
+    List<PageCursor> findArticlePositionsByTagName(String tagName);
 }
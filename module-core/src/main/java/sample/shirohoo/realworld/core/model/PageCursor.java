@@ -0,0 +1,63 @@
+package sample.shirohoo.realworld.core.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * The {@code PageCursor} class represents the position of the last row of a page for keyset
+ * pagination ordered by {@code (createdAt, id)} in descending order.
+ *
+ * <p>Note: Clients only see the encoded form, so the layout can change without breaking them.
+ *
+ * @param createdAt The creation time of the last row.
+ * @param id The id of the last row.
+ * @see PageCursor#decode(String)
+ */
+public record PageCursor(LocalDateTime createdAt, int id) {
+    private static final String SEPARATOR = ",";
+
+    public PageCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("createdAt must not be null.");
+        }
+    }
+
+    public static PageCursor of(Article article) {
+        return new PageCursor(article.getCreatedAt(), article.getId());
+    }
+
+    public static PageCursor of(ArticleComment articleComment) {
+        return new PageCursor(articleComment.getCreatedAt(), articleComment.getId());
+    }
+
+    /**
+     * Decode the opaque cursor sent by clients.
+     *
+     * @param cursor encoded cursor
+     * @return Returns the decoded cursor, or {@code null} if the cursor is null or blank
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Integer.parseInt(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+}
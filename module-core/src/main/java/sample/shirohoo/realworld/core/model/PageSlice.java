@@ -0,0 +1,30 @@
+package sample.shirohoo.realworld.core.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The {@code PageSlice} class represents one page of rows together with whether another page
+ * follows, so that the next page can be offered without counting all rows.
+ *
+ * @param content The rows of the page.
+ * @param hasNext Whether there are more rows after the page.
+ * @see PageSlice#of(List, int)
+ */
+public record PageSlice<T>(List<T> content, boolean hasNext) {
+    /**
+     * Cut a page out of rows read with one more row than the page size.
+     *
+     * @param rows rows, up to {@code size + 1}
+     * @param size page size
+     * @return Returns the first {@code size} rows, with a next page if the extra row was found
+     */
+    public static <T> PageSlice<T> of(List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        return new PageSlice<>(hasNext ? rows.subList(0, size) : rows, hasNext);
+    }
+
+    public <R> PageSlice<R> map(Function<List<T>, List<R>> mapper) {
+        return new PageSlice<>(mapper.apply(content), hasNext);
+    }
+}
@@ -5,4 +5,15 @@ public interface PasswordEncoder {
     boolean matches(String rawPassword, String encodedPassword);
 
     String encode(String rawPassword);
+
+    /**
+     * Check if the encoded password was made with an algorithm or parameters that are no longer
+     * preferred, so it should be encoded again the next time the raw password is known.
+     *
+     * @param encodedPassword encoded password
+     * @return Returns true if the password should be encoded again
+     */
+    default boolean upgradeEncoding(String encodedPassword) {
+        return false;
+    }
 }
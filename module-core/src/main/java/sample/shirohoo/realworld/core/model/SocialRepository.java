@@ -1,12 +1,34 @@
 package sample.shirohoo.realworld.core.model;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface SocialRepository {
+    /**
+     * Save a follow and count it in the followers of the followed user, in one transaction.
+     *
+     * @param userFollow follow
+     */
     void save(UserFollow userFollow);
 
     List<UserFollow> findByFollower(User follower);
 
+    /**
+     * Get the users among the candidates that the follower is following.
+     *
+     * @param follower follower
+     * @param candidates users to check
+     * @return Returns the followed candidates
+     */
+    Set<User> findFollowingAmong(User follower, Collection<User> candidates);
+
+    /**
+     * Delete a follow and discount it from the followers of the followed user, in one transaction.
+     *
+     * @param follower follower
+     * @param following followed user
+     */
     void deleteByFollowerAndFollowing(User follower, User following);
 
     boolean existsByFollowerAndFollowing(User follower, User following);
@@ -10,5 +10,14 @@ public interface TagRepository {
 
     Set<Tag> findByNameIn(Collection<String> names);
 
+    /**
+     * Get tags by name, creating the ones that do not exist yet. Concurrent calls creating the same
+     * names do not fail on the unique name, they all get the same tags.
+     *
+     * @param names tag names
+     * @return Returns the tags of the distinct names
+     */
+    Set<Tag> resolveOrCreate(Collection<String> names);
+
     List<Tag> findAll();
 }
@@ -0,0 +1,80 @@
+package sample.shirohoo.realworld.core.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * An article pushed into the home timeline of one of the followers of its author, so that the feed
+ * of a user can be read as a single range of the timeline index.
+ *
+ * <p>Note: The author and creation time are copied from the article to keep pruning and ordering
+ * within the timeline table.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "user_timeline",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"owner_id", "article_id"})},
+        indexes = {
+            @Index(name = "idx_user_timeline_owner_id_created_at", columnList = "owner_id, created_at, article_id")
+        })
+public class TimelineEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne
+    @JoinColumn(name = "owner_id", nullable = false)
+    private User owner;
+
+    @ManyToOne
+    @JoinColumn(name = "article_id", nullable = false)
+    private Article article;
+
+    @ManyToOne
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public TimelineEntry(User owner, Article article) {
+        if (owner == null || owner.getId() == null) {
+            throw new IllegalArgumentException("owner is null or unknown user.");
+        }
+        if (article == null || article.getId() == null) {
+            throw new IllegalArgumentException("article is null or unknown article.");
+        }
+
+        this.owner = owner;
+        this.article = article;
+        this.author = article.getAuthor();
+        this.createdAt = article.getCreatedAt();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TimelineEntry other && Objects.equals(this.getId(), other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
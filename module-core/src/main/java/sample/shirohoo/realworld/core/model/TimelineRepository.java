@@ -0,0 +1,55 @@
+package sample.shirohoo.realworld.core.model;
+
+import java.util.List;
+
+/**
+ * Stores the materialized home timelines of users, one entry per article pushed to a follower.
+ *
+ * <p>Note: Timelines are bounded, the oldest entries beyond the capacity are trimmed periodically.
+ */
+public interface TimelineRepository {
+    /**
+     * Push the article into the timelines of all current followers of its author.
+     *
+     * @param article written article
+     * @return Returns the number of timelines the article was pushed to
+     */
+    int fanOut(Article article);
+
+    /**
+     * Push the latest articles of the author into the timeline of a new follower.
+     *
+     * @param owner user who started following
+     * @param author followed user
+     * @param limit maximum number of articles to push
+     */
+    void backfill(User owner, User author, int limit);
+
+    /**
+     * Push the latest articles of the author into the timelines of all current followers, skipping
+     * articles that are already there.
+     *
+     * @param author user who is no longer popular, whose articles were pulled instead of pushed
+     * @param limit maximum number of articles to push
+     * @return Returns the number of pushed entries
+     */
+    int backfillFollowers(User author, int limit);
+
+    /**
+     * Remove all articles of the author from the timeline of a former follower.
+     *
+     * @param owner user who stopped following
+     * @param author unfollowed user
+     */
+    void prune(User owner, User author);
+
+    /**
+     * Get articles of the timeline, latest first.
+     *
+     * @param owner owner of the timeline
+     * @param cursor position to start after, or {@code null} to start from the latest article
+     * @param limit maximum number of articles
+     * @return Returns articles of the timeline
+     */
+    List<Article> findArticles(User owner, PageCursor cursor, int limit);
+}
@@ -9,15 +9,19 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "users")
+@DynamicUpdate
+@Table(name = "users", indexes = @Index(name = "idx_users_followers_count", columnList = "followers_count"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
     @Id
@@ -39,6 +43,10 @@ public class User {
     @Column(length = 200)
     private String imageUrl;
 
+    // Note: Only changed by SocialRepository along with a follow, so merging a stale instance must not overwrite it.
+    @Column(nullable = false, updatable = false)
+    private int followersCount;
+
     @Column(nullable = false, updatable = false)
     private final LocalDateTime createdAt = LocalDateTime.now();
 
@@ -97,10 +105,6 @@ public class User {
             return;
         }
 
-        if (passwordEncoder.matches(rawPassword, this.password)) {
-            return;
-        }
-
         // Note: You can add some more validations here if you want. (ex. regex)
         this.password = passwordEncoder.encode(rawPassword);
     }
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "user_follow",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"follower_id", "following_id"})})
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"follower_id", "following_id"})},
+        indexes = {@Index(name = "idx_user_follow_following_id", columnList = "following_id, follower_id")})
 public class UserFollow {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,24 @@
+package sample.shirohoo.realworld.core.model;
+
+/**
+ * Changes to a user's profile. A {@code null} field is left unchanged.
+ *
+ * @param email new user email
+ * @param username new user name
+ * @param password new raw password
+ * @param bio new user bio
+ * @param imageUrl new user image url
+ */
+public record UserPatch(String email, String username, String password, String bio, String imageUrl) {
+    public UserPatch {
+        if (email != null && email.isBlank()) {
+            throw new IllegalArgumentException("email must not be blank.");
+        }
+        if (username != null && username.isBlank()) {
+            throw new IllegalArgumentException("username must not be blank.");
+        }
+        if (password != null && password.isBlank()) {
+            throw new IllegalArgumentException("password must not be blank.");
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package sample.shirohoo.realworld.core.model;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface UserRepository {
     User save(User user);
 
     Optional<User> findById(UUID id);
 
+    /**
+     * Load the user, apply the changes and save it in one transaction. Queries made by the changes, such as
+     * uniqueness checks, run in the same transaction.
+     *
+     * @param id user id
+     * @param changes changes to apply to the loaded user
+     * @return Returns the saved user, or empty if there is no user with the id
+     */
+    Optional<User> update(UUID id, Consumer<User> changes);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
@@ -17,4 +30,29 @@ public interface UserRepository {
     boolean existsByUsername(String username);
 
     boolean existsByEmailOrUsername(String email, String username);
+
+    /**
+     * Get users that have the email or the username, to check both for uniqueness at once.
+     *
+     * @param email email, or {@code null} to match by username only
+     * @param username username, or {@code null} to match by email only
+     * @return Returns users with the email or the username
+     */
+    List<User> findByEmailOrUsername(String email, String username);
+
+    /**
+     * Get users that have at least the given number of followers.
+     *
+     * @param followers minimum number of followers
+     * @return Returns the popular users
+     */
+    List<User> findPopular(int followers);
+
+    /**
+     * Pass the email and username of every user to the action, while they are read from the
+     * database. The users are not loaded.
+     *
+     * @param action action to run with each email and username
+     */
+    void forEachEmailAndUsername(BiConsumer<String, String> action);
 }
@@ -1,6 +1,6 @@
 package sample.shirohoo.realworld.core.service;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
@@ -9,12 +9,20 @@ import lombok.RequiredArgsConstructor;
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleComment;
 import sample.shirohoo.realworld.core.model.ArticleCommentRepository;
+import sample.shirohoo.realworld.core.model.ArticleCounterRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.PageSlice;
 import sample.shirohoo.realworld.core.model.User;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleCommentService {
+    private static final int MAX_LIMIT = 100;
+
     private final ArticleCommentRepository articleCommentRepository;
+    private final ArticleCounterRepository articleCounterRepository;
+    private final CommentGroupCommit commentGroupCommit;
+    private final ArticleSlugCache articleSlugCache;
 
     /**
      * Get comment by id.
@@ -29,13 +37,30 @@ public class ArticleCommentService {
     }
 
     /**
-     * Get all comments by article.
+     * Get a page of comments by article, latest first.
      *
      * @param article article
-     * @return Returns all comments
+     * @param cursor position to start after, or {@code null} to start from the latest comment
+     * @param limit maximum number of comments
+     * @return Returns a page of comments, with whether another page follows
      */
-    public List<ArticleComment> readComments(Article article) {
-        return articleCommentRepository.findByArticleOrderByCreatedAtDesc(article);
+    public PageSlice<ArticleComment> readComments(Article article, PageCursor cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+
+        // Note: One more comment than the page is read to find out whether another page follows.
+        return PageSlice.of(articleCommentRepository.findByArticle(article, cursor, limit + 1), limit);
+    }
+
+    /**
+     * Pass all comments by article to the action, latest first, without loading them all at once.
+     *
+     * @param article article
+     * @param action action to run for each comment
+     */
+    public void streamComments(Article article, Consumer<ArticleComment> action) {
+        articleCommentRepository.forEachByArticle(article, action);
     }
 
     /**
@@ -45,7 +70,13 @@ public class ArticleCommentService {
      * @return Returns the written comment
      */
     public ArticleComment writeComment(ArticleComment articleComment) {
-        return articleCommentRepository.save(articleComment);
+        // Note: A group commit counts the comments of its batch per article itself.
+        var savedComment = commentGroupCommit.isEnabled()
+                ? commentGroupCommit.save(articleComment)
+                : this.saveAndCount(articleComment);
+        articleSlugCache.evict(savedComment.getArticle().getSlug());
+
+        return savedComment;
     }
 
     /**
@@ -60,5 +91,14 @@ public class ArticleCommentService {
         }
 
         articleCommentRepository.delete(articleComment);
+        articleCounterRepository.addCommentsCount(articleComment.getArticle(), -1);
+        articleSlugCache.evict(articleComment.getArticle().getSlug());
+    }
+
+    private ArticleComment saveAndCount(ArticleComment articleComment) {
+        var savedComment = articleCommentRepository.save(articleComment);
+        articleCounterRepository.addCommentsCount(savedComment.getArticle(), 1);
+
+        return savedComment;
     }
 }
@@ -0,0 +1,105 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleFacets;
+import sample.shirohoo.realworld.core.model.ArticleRepository;
+import sample.shirohoo.realworld.core.model.Tag;
+
+/**
+ * Keeps the total number of articles per facet (global, per tag and per author), so that listing
+ * does not have to count the article table on every request.
+ *
+ * <p>Note: A total is counted from the database once, and then maintained by article writes. It is
+ * approximate under concurrent writes, so it expires after a while and is counted again.
+ */
+@Component
+class ArticleCountCache {
+    private static final String GLOBAL_KEY = "global";
+    private static final String TAG_KEY_PREFIX = "tag:";
+    private static final String AUTHOR_KEY_PREFIX = "author:";
+
+    private final boolean enabled;
+    private final ArticleRepository articleRepository;
+    private final Cache<String, AtomicInteger> totals;
+
+    ArticleCountCache(
+            ArticleRepository articleRepository,
+            @Value("${realworld.article.count-cache.enabled:false}") boolean enabled,
+            @Value("${realworld.article.count-cache.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.article.count-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.articleRepository = articleRepository;
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * Get the total number of articles matching the facets.
+     *
+     * @param facets article facets
+     * @return Returns the total, or empty if disabled or the facets combination is not counted
+     */
+    OptionalInt get(ArticleFacets facets) {
+        String key = keyOf(facets);
+        if (!enabled || key == null) {
+            return OptionalInt.empty();
+        }
+
+        AtomicInteger total = totals.get(key, k -> new AtomicInteger(articleRepository.count(facets)));
+        return OptionalInt.of(total.get());
+    }
+
+    void articleWritten(Article article) {
+        this.add(GLOBAL_KEY, 1);
+        this.add(AUTHOR_KEY_PREFIX + article.getAuthor().getUsername(), 1);
+    }
+
+    void articleTagged(Collection<Tag> tags) {
+        tags.forEach(tag -> this.add(TAG_KEY_PREFIX + tag.getName(), 1));
+    }
+
+    void articleDeleted(Article article) {
+        this.add(GLOBAL_KEY, -1);
+        this.add(AUTHOR_KEY_PREFIX + article.getAuthor().getUsername(), -1);
+
+        // Note: Tags of the deleted article are not known here, so every tag total is counted again.
+        totals.asMap().keySet().removeIf(key -> key.startsWith(TAG_KEY_PREFIX));
+    }
+
+    private void add(String key, int delta) {
+        AtomicInteger total = totals.getIfPresent(key);
+        if (total != null) {
+            total.addAndGet(delta);
+        }
+    }
+
+    private static String keyOf(ArticleFacets facets) {
+        boolean hasTag = facets.tag() != null && !facets.tag().isBlank();
+        boolean hasAuthor = facets.author() != null && !facets.author().isBlank();
+        boolean hasFavorited = facets.favorited() != null && !facets.favorited().isBlank();
+
+        if (hasFavorited || (hasTag && hasAuthor)) {
+            return null;
+        }
+        if (hasTag) {
+            return TAG_KEY_PREFIX + facets.tag();
+        }
+        if (hasAuthor) {
+            return AUTHOR_KEY_PREFIX + facets.author();
+        }
+        return GLOBAL_KEY;
+    }
+}
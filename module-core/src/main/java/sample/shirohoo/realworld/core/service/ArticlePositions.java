@@ -0,0 +1,150 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.PageCursor;
+
+/**
+ * Immutable positions of a set of articles, ordered by {@code (createdAt, id)} like every article
+ * page, so that in-memory indexes walk pages in the same order as the database. The ids are also
+ * kept as an {@link IntSets} to probe membership. Adding or removing an article returns a copy, so
+ * positions can be read without locking while they are replaced.
+ *
+ * @param createdAts creation times of the articles in microseconds, oldest first
+ * @param articleIds article ids, in the same order
+ * @param idSet the article ids as an {@link IntSets}
+ */
+record ArticlePositions(long[] createdAts, int[] articleIds, Object idSet) {
+    private static final Comparator<PageCursor> OLDEST_FIRST =
+            Comparator.comparing(PageCursor::createdAt).thenComparingInt(PageCursor::id);
+
+    static ArticlePositions of(List<PageCursor> positions) {
+        List<PageCursor> sorted = positions.stream().sorted(OLDEST_FIRST).toList();
+
+        long[] createdAts = new long[sorted.size()];
+        int[] articleIds = new int[sorted.size()];
+        int size = 0;
+        for (PageCursor position : sorted) {
+            if (size > 0 && articleIds[size - 1] == position.id()) {
+                continue;
+            }
+            createdAts[size] = micros(position.createdAt());
+            articleIds[size++] = position.id();
+        }
+
+        articleIds = Arrays.copyOf(articleIds, size);
+        return new ArticlePositions(
+                Arrays.copyOf(createdAts, size),
+                articleIds,
+                IntSets.pack(IntStream.of(articleIds).sorted().toArray()));
+    }
+
+    int size() {
+        return articleIds.length;
+    }
+
+    long bytes() {
+        return 16L + 8L * createdAts.length + 16L + 4L * articleIds.length + IntSets.bytes(idSet);
+    }
+
+    ArticlePositions with(Article article) {
+        int articleId = article.getId();
+        if (IntSets.contains(idSet, articleId)) {
+            return this;
+        }
+
+        long createdAt = micros(article.getCreatedAt());
+        int position = this.position(createdAt, articleId);
+
+        long[] createdAtsCopy = new long[createdAts.length + 1];
+        System.arraycopy(createdAts, 0, createdAtsCopy, 0, position);
+        createdAtsCopy[position] = createdAt;
+        System.arraycopy(createdAts, position, createdAtsCopy, position + 1, createdAts.length - position);
+
+        int[] articleIdsCopy = new int[articleIds.length + 1];
+        System.arraycopy(articleIds, 0, articleIdsCopy, 0, position);
+        articleIdsCopy[position] = articleId;
+        System.arraycopy(articleIds, position, articleIdsCopy, position + 1, articleIds.length - position);
+
+        return new ArticlePositions(createdAtsCopy, articleIdsCopy, IntSets.with(idSet, articleId));
+    }
+
+    ArticlePositions without(int articleId) {
+        if (!IntSets.contains(idSet, articleId)) {
+            return this;
+        }
+
+        int position = 0;
+        while (articleIds[position] != articleId) {
+            position++;
+        }
+
+        long[] createdAtsCopy = new long[createdAts.length - 1];
+        System.arraycopy(createdAts, 0, createdAtsCopy, 0, position);
+        System.arraycopy(createdAts, position + 1, createdAtsCopy, position, createdAts.length - position - 1);
+
+        int[] articleIdsCopy = new int[articleIds.length - 1];
+        System.arraycopy(articleIds, 0, articleIdsCopy, 0, position);
+        System.arraycopy(articleIds, position + 1, articleIdsCopy, position, articleIds.length - position - 1);
+
+        return new ArticlePositions(createdAtsCopy, articleIdsCopy, IntSets.without(idSet, articleId));
+    }
+
+    /**
+     * Get a page of the article ids that are also in all the filters, latest first.
+     *
+     * @param filters positions the articles must also be in, e.g. of other tags
+     * @param cursor position to start after, or {@code null} to start from the latest article
+     * @param skip number of matching articles to skip
+     * @param limit maximum number of article ids
+     * @return Returns article ids, latest first
+     */
+    List<Integer> page(List<ArticlePositions> filters, PageCursor cursor, int skip, int limit) {
+        List<Integer> page = new ArrayList<>(limit);
+        int skipped = 0;
+        int position = cursor == null ? articleIds.length : this.position(micros(cursor.createdAt()), cursor.id());
+        for (int i = position - 1; i >= 0 && page.size() < limit; i--) {
+            int articleId = articleIds[i];
+            if (filters.stream().allMatch(filter -> IntSets.contains(filter.idSet(), articleId))) {
+                if (skipped < skip) {
+                    skipped++;
+                } else {
+                    page.add(articleId);
+                }
+            }
+        }
+
+        return page;
+    }
+
+    /** Get the number of articles before the given position, i.e. where an article there is inserted. */
+    private int position(long createdAt, int articleId) {
+        int low = 0;
+        int high = articleIds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int compared = createdAts[middle] != createdAt
+                    ? Long.compare(createdAts[middle], createdAt)
+                    : Integer.compare(articleIds[middle], articleId);
+            if (compared < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /** Article creation times are stored with microseconds, so they are compared at that precision. */
+    private static long micros(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+}
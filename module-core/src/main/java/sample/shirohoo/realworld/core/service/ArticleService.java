@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import org.springframework.stereotype.Service;
@@ -17,23 +18,29 @@ import sample.shirohoo.realworld.core.model.ArticleFacets;
 import sample.shirohoo.realworld.core.model.ArticleFavorite;
 import sample.shirohoo.realworld.core.model.ArticleFavoriteRepository;
 import sample.shirohoo.realworld.core.model.ArticleInfo;
+import sample.shirohoo.realworld.core.model.ArticlePatch;
 import sample.shirohoo.realworld.core.model.ArticleRepository;
 import sample.shirohoo.realworld.core.model.ArticleTag;
 import sample.shirohoo.realworld.core.model.ArticleTagRepository;
-import sample.shirohoo.realworld.core.model.SocialRepository;
+import sample.shirohoo.realworld.core.model.PageSlice;
 import sample.shirohoo.realworld.core.model.Tag;
-import sample.shirohoo.realworld.core.model.TagRepository;
 import sample.shirohoo.realworld.core.model.User;
-import sample.shirohoo.realworld.core.model.UserFollow;
+import sample.shirohoo.realworld.core.model.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
-    private final TagRepository tagRepository;
-    private final SocialRepository socialRepository;
+    private final UserRepository userRepository;
     private final ArticleRepository articleRepository;
     private final ArticleTagRepository articleTagRepository;
     private final ArticleFavoriteRepository articleFavoriteRepository;
+    private final ArticleCountCache articleCountCache;
+    private final FeedTimeline feedTimeline;
+    private final ArticleSlugCache articleSlugCache;
+    private final TagDictionary tagDictionary;
+    private final ArticleTagIndex articleTagIndex;
+    private final FavoriteIndex favoriteIndex;
+    private final UniquenessFilters uniquenessFilters;
 
     /**
      * Get article by slug.
@@ -42,19 +49,17 @@ public class ArticleService {
      * @return Returns article
      */
     public Article readArticleBySlug(String slug) {
-        return articleRepository.findBySlug(slug).orElseThrow(() -> new NoSuchElementException("article not found."));
+        return articleSlugCache.get(slug).orElseThrow(() -> new NoSuchElementException("article not found."));
     }
 
     /**
      * Get articles by facets.
      *
      * @param facets article facets
-     * @return Returns articles with information
+     * @return Returns a page of articles with information
      */
-    public List<ArticleInfo> readArticles(ArticleFacets facets) {
-        return articleRepository.findAll(facets).stream()
-                .map(articleRepository::findArticleInfoByAnonymous)
-                .toList();
+    public PageSlice<ArticleInfo> readArticles(ArticleFacets facets) {
+        return this.findArticles(facets).map(articles -> articleRepository.findArticleInfos(null, articles));
     }
 
     /**
@@ -62,12 +67,20 @@ public class ArticleService {
      *
      * @param requester user who requested
      * @param facets article facets
-     * @return Returns articles with information
+     * @return Returns a page of articles with information
      */
-    public List<ArticleInfo> readArticles(User requester, ArticleFacets facets) {
-        return articleRepository.findAll(facets).stream()
-                .map(article -> articleRepository.findArticleInfoByUser(requester, article))
-                .toList();
+    public PageSlice<ArticleInfo> readArticles(User requester, ArticleFacets facets) {
+        return this.findArticles(facets).map(articles -> this.toArticleInfos(requester, articles));
+    }
+
+    /**
+     * Get the total number of articles matching the facets, regardless of the page.
+     *
+     * @param facets article facets
+     * @return Returns the total, or empty if it is not maintained for the facets
+     */
+    public OptionalInt countArticles(ArticleFacets facets) {
+        return articleCountCache.get(facets);
     }
 
     /**
@@ -75,16 +88,14 @@ public class ArticleService {
      *
      * @param user user who requested
      * @param facets article facets
-     * @return Returns articles with information
+     * @return Returns a page of articles with information
      */
-    public List<ArticleInfo> readFeeds(User user, ArticleFacets facets) {
-        List<User> following = socialRepository.findByFollower(user).stream()
-                .map(UserFollow::getFollowing)
-                .toList();
+    public PageSlice<ArticleInfo> readFeeds(User user, ArticleFacets facets) {
+        if (feedTimeline.isEnabled()) {
+            return feedTimeline.read(user, facets).map(articles -> this.toArticleInfos(user, articles));
+        }
 
-        return articleRepository.findByAuthorInOrderByCreatedAtDesc(following, facets).stream()
-                .map(article -> articleRepository.findArticleInfoByUser(user, article))
-                .toList();
+        return articleRepository.findFeed(user, facets).map(articles -> this.toArticleInfos(user, articles));
     }
 
     /**
@@ -94,11 +105,39 @@ public class ArticleService {
      * @return Returns the written article
      */
     public Article writeArticle(Article article) {
-        if (articleRepository.existsByTitle(article.getTitle())) {
+        if (this.existsByTitle(article.getTitle())) {
+            throw new IllegalArgumentException("title is already exists.");
+        }
+
+        var savedArticle = articleRepository.save(article);
+        uniquenessFilters.titles().add(savedArticle.getTitle());
+        articleCountCache.articleWritten(savedArticle);
+        feedTimeline.articleWritten(savedArticle);
+
+        return savedArticle;
+    }
+
+    /**
+     * Write a new article with its tags in one transaction.
+     *
+     * @param article article
+     * @param tags tags
+     * @return Returns the written article with information
+     */
+    public ArticleInfo publishArticle(Article article, Collection<Tag> tags) {
+        if (this.existsByTitle(article.getTitle())) {
             throw new IllegalArgumentException("title is already exists.");
         }
 
-        return articleRepository.save(article);
+        var storedTags = tagDictionary.resolveOrCreate(tags.stream().map(Tag::getName).toList());
+        var articleTags = articleRepository.publish(article, storedTags);
+        uniquenessFilters.titles().add(article.getTitle());
+        articleCountCache.articleWritten(article);
+        articleCountCache.articleTagged(articleTags.stream().map(ArticleTag::getTag).toList());
+        articleTagIndex.articleTagged(article, storedTags);
+        feedTimeline.articleWritten(article);
+
+        return new ArticleInfo(article, articleTags, 0, false);
     }
 
     /**
@@ -109,27 +148,21 @@ public class ArticleService {
      * @return Returns article's tags
      */
     public Set<ArticleTag> addArticleTags(Article article, Collection<Tag> tags) {
-        // Find existing tags by name.
-        var existingTags =
-                tagRepository.findByNameIn(tags.stream().map(Tag::getName).toList());
-
-        // Save tags that do not exist yet.
-        var newTags = tags.stream().filter(tag -> !existingTags.contains(tag)).collect(toList());
-        tagRepository.saveAll(newTags);
-
-        // Merge existing and new tags.
-        var allTags = new HashSet<>(existingTags);
-        allTags.addAll(newTags);
+        // Find tags by name, creating the ones that do not exist yet.
+        var allTags = tagDictionary.resolveOrCreate(tags.stream().map(Tag::getName).toList());
 
         // Find existing article tags for the given article and tags.
         var existingArticleTags = articleTagRepository.findByArticleAndTagIn(article, allTags);
 
         // Save article tags for tags that do not exist in the article.
+        var taggedTags = existingArticleTags.stream().map(ArticleTag::getTag).collect(toSet());
         var newArticleTags = allTags.stream()
-                .filter(tag -> existingArticleTags.stream().noneMatch(tag::equalsArticleTag))
+                .filter(tag -> !taggedTags.contains(tag))
                 .map(tag -> new ArticleTag(article, tag))
                 .collect(toList());
         articleTagRepository.saveAll(newArticleTags);
+        articleCountCache.articleTagged(newArticleTags.stream().map(ArticleTag::getTag).toList());
+        articleTagIndex.articleTagged(article, allTags);
 
         // Combine and return the final set of ArticleTags.
         var allArticleTags = new HashSet<>(existingArticleTags);
@@ -139,58 +172,40 @@ public class ArticleService {
     }
 
     /**
-     * Edit article title.
+     * Edit several fields of an article at once, with a single uniqueness check and a single save.
      *
      * @param requester user who requested
      * @param article article
-     * @param title new title
-     * @return Returns the edited article
+     * @param patch changes to apply, {@code null} fields are left unchanged
+     * @return Returns the edited article with information
      */
-    public Article editTitle(User requester, Article article, String title) {
+    public ArticleInfo editArticle(User requester, Article article, ArticlePatch patch) {
         if (article.isNotAuthor(requester)) {
             throw new IllegalArgumentException("you can't edit articles written by others.");
         }
 
-        if (articleRepository.existsByTitle(title)) {
+        boolean titleChanged = patch.title() != null && !patch.title().equals(article.getTitle());
+        if (titleChanged && this.existsByTitle(patch.title())) {
             throw new IllegalArgumentException("title is already exists.");
         }
 
-        article.setTitle(title);
-        return articleRepository.save(article);
-    }
-
-    /**
-     * Edit article description.
-     *
-     * @param requester user who requested
-     * @param article article
-     * @param description new description
-     * @return Returns the edited article
-     */
-    public Article editDescription(User requester, Article article, String description) {
-        if (article.isNotAuthor(requester)) {
-            throw new IllegalArgumentException("you can't edit articles written by others.");
+        String previousSlug = article.getSlug();
+        articleSlugCache.evict(previousSlug);
+        var editedArticle = this.reload(article);
+        // Note: Tags and the favorite state do not change with an edit, so they are read once up front.
+        var articleInfo = this.getArticleInfoByUser(requester, editedArticle);
+        if (titleChanged) {
+            editedArticle.setTitle(patch.title());
         }
+        editedArticle.setDescription(patch.description());
+        editedArticle.setContent(patch.content());
 
-        article.setDescription(description);
-        return articleRepository.save(article);
-    }
+        var savedArticle = articleRepository.save(editedArticle);
+        articleSlugCache.evict(previousSlug);
+        uniquenessFilters.titles().add(savedArticle.getTitle());
 
-    /**
-     * Edit article content.
-     *
-     * @param requester user who requested
-     * @param article article
-     * @param content new content
-     * @return Returns the edited article
-     */
-    public Article editContent(User requester, Article article, String content) {
-        if (article.isNotAuthor(requester)) {
-            throw new IllegalArgumentException("you can't edit articles written by others.");
-        }
-
-        article.setContent(content);
-        return articleRepository.save(article);
+        return new ArticleInfo(
+                savedArticle, articleInfo.articleTags(), articleInfo.favoritesCount(), articleInfo.favorited());
     }
 
     /**
@@ -204,7 +219,12 @@ public class ArticleService {
             throw new IllegalArgumentException("you can't delete articles written by others.");
         }
 
+        articleSlugCache.evict(article.getSlug());
         articleRepository.delete(article);
+        articleSlugCache.evict(article.getSlug());
+        articleCountCache.articleDeleted(article);
+        articleTagIndex.articleDeleted(article);
+        favoriteIndex.articleDeleted(article);
     }
 
     /**
@@ -215,7 +235,7 @@ public class ArticleService {
      * @return Returns true if already favorited
      */
     public boolean isFavorited(User requester, Article article) {
-        return articleFavoriteRepository.existsByUserAndArticle(requester, article);
+        return favoriteIndex.isFavorited(requester, article);
     }
 
     /**
@@ -223,13 +243,19 @@ public class ArticleService {
      *
      * @param requester user who requested
      * @param article article
+     * @return Returns the article with information, with the counter read after the favorite
      */
-    public void favoriteArticle(User requester, Article article) {
+    public ArticleInfo favoriteArticle(User requester, Article article) {
         if (this.isFavorited(requester, article)) {
             throw new IllegalArgumentException("you already favorited this article.");
         }
 
-        articleFavoriteRepository.save(new ArticleFavorite(requester, article));
+        articleFavoriteRepository.saveAndCount(new ArticleFavorite(requester, article));
+        favoriteIndex.favorited(requester, article);
+        articleSlugCache.evict(article.getSlug());
+
+        var articleInfo = articleRepository.findArticleInfoByAnonymous(this.reload(article));
+        return new ArticleInfo(articleInfo.article(), articleInfo.articleTags(), articleInfo.favoritesCount(), true);
     }
 
     /**
@@ -237,13 +263,20 @@ public class ArticleService {
      *
      * @param requester user who requested
      * @param article article
+     * @return Returns the article with information, with the counter read after the unfavorite
      */
-    public void unfavoriteArticle(User requester, Article article) {
+    public ArticleInfo unfavoriteArticle(User requester, Article article) {
         if (!this.isFavorited(requester, article)) {
             throw new IllegalArgumentException("you already unfavorited this article.");
         }
 
-        articleFavoriteRepository.deleteByUserAndArticle(requester, article);
+        articleFavoriteRepository.deleteAndCount(requester, article);
+        favoriteIndex.unfavorited(requester, article);
+        articleSlugCache.evict(article.getSlug());
+
+        var articleInfo = articleRepository.findArticleInfoByAnonymous(this.reload(article));
+        return new ArticleInfo(
+                articleInfo.article(), articleInfo.articleTags(), Math.max(0, articleInfo.favoritesCount()), false);
     }
 
     /**
@@ -264,6 +297,71 @@ public class ArticleService {
      * @return Returns article information
      */
     public ArticleInfo getArticleInfoByUser(User requester, Article article) {
-        return articleRepository.findArticleInfoByUser(requester, article);
+        if (!favoriteIndex.isEnabled()) {
+            return articleRepository.findArticleInfoByUser(requester, article);
+        }
+
+        var articleInfo = articleRepository.findArticleInfoByAnonymous(article);
+        return new ArticleInfo(
+                article, articleInfo.articleTags(), articleInfo.favoritesCount(), this.isFavorited(requester, article));
+    }
+
+    private PageSlice<Article> findArticles(ArticleFacets facets) {
+        boolean hasTag = hasText(facets.tag());
+        boolean hasAuthor = hasText(facets.author());
+        boolean hasFavorited = hasText(facets.favorited());
+
+        // Note: With a cursor the position is already part of the walk, so the first page is always read.
+        // One more id than the page is walked to find out whether another page follows.
+        int skip = facets.cursor() == null ? facets.page() * facets.size() : 0;
+        int limit = facets.size() + 1;
+
+        if (articleTagIndex.isEnabled() && hasTag && !hasAuthor && !hasFavorited) {
+            List<Integer> articleIds =
+                    articleTagIndex.findArticleIds(List.of(facets.tag()), facets.cursor(), skip, limit);
+            return PageSlice.of(articleIds, facets.size()).map(articleRepository::findByIdIn);
+        }
+
+        if (favoriteIndex.isEnabled() && hasFavorited && !hasTag && !hasAuthor) {
+            List<Integer> articleIds = userRepository
+                    .findByUsername(facets.favorited())
+                    .map(user -> favoriteIndex.findArticleIds(user, facets.cursor(), skip, limit))
+                    .orElse(List.of());
+            return PageSlice.of(articleIds, facets.size()).map(articleRepository::findByIdIn);
+        }
+
+        return articleRepository.findAll(facets);
+    }
+
+    private List<ArticleInfo> toArticleInfos(User requester, List<Article> articles) {
+        if (!favoriteIndex.isEnabled()) {
+            return articleRepository.findArticleInfos(requester, articles);
+        }
+
+        // Note: Favorited flags are set from the index, so only the tags are read from the database.
+        var favorited = favoriteIndex.favoritedBy(requester);
+        return articleRepository.findArticleInfos(null, articles).stream()
+                .map(articleInfo -> new ArticleInfo(
+                        articleInfo.article(),
+                        articleInfo.articleTags(),
+                        articleInfo.favoritesCount(),
+                        favorited.test(articleInfo.article())))
+                .toList();
+    }
+
+    private Article reload(Article article) {
+        // Note: The given article may be shared through the slug cache, so changes are made to a fresh instance
+        // and counters are read from one.
+        return articleRepository
+                .findBySlug(article.getSlug())
+                .orElseThrow(() -> new NoSuchElementException("article not found."));
+    }
+
+    private boolean existsByTitle(String title) {
+        return uniquenessFilters.titles().exists(title, articleRepository::existsByTitle);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 }
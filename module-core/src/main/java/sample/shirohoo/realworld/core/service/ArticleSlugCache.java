@@ -0,0 +1,87 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleRepository;
+
+/**
+ * Keeps articles by slug, since almost every article endpoint starts with a slug lookup. The cache
+ * is bounded by the estimated size of the articles, and concurrent misses for the same slug wait
+ * for a single load instead of all querying the database.
+ *
+ * <p>Note: Cached articles are shared between requests, so they are never changed. Edits are made to
+ * a freshly loaded instance, and the slug is evicted before and after they are saved. Favorites and
+ * comments evict the slug after changing the counters. Hit, miss and load metrics are published as
+ * {@code cache.*} with the name {@code article.slug}.
+ */
+@Component
+class ArticleSlugCache implements MeterBinder {
+    /** Rough size of an article without its text fields, including the author reference. */
+    private static final int BASE_WEIGHT = 512;
+
+    private final boolean enabled;
+    private final ArticleRepository articleRepository;
+    private final Cache<String, Article> articles;
+
+    ArticleSlugCache(
+            ArticleRepository articleRepository,
+            @Value("${realworld.article.slug-cache.enabled:true}") boolean enabled,
+            @Value("${realworld.article.slug-cache.maximum-weight:64MB}") DataSize maximumWeight,
+            @Value("${realworld.article.slug-cache.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.articleRepository = articleRepository;
+        this.articles = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((String slug, Article article) -> weightOf(article))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get article by slug, loading it once for all concurrent callers on a miss.
+     *
+     * @param slug article slug
+     * @return Returns the article, or empty if there is no article with the slug
+     */
+    Optional<Article> get(String slug) {
+        if (!enabled) {
+            return articleRepository.findBySlug(slug);
+        }
+
+        // Note: A missing article is not cached, so that it can be found right after it is written.
+        return Optional.ofNullable(articles.get(slug, key -> articleRepository.findBySlug(key).orElse(null)));
+    }
+
+    void evict(String slug) {
+        articles.invalidate(slug);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, articles, "article.slug");
+    }
+
+    private static int weightOf(Article article) {
+        int characters = article.getSlug().length()
+                + article.getTitle().length()
+                + article.getDescription().length()
+                + article.getContent().length();
+
+        // Note: Strings take up to two bytes per character.
+        return BASE_WEIGHT + 2 * characters;
+    }
+}
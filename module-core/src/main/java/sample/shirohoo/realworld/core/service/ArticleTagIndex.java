@@ -0,0 +1,158 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleTagRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.Tag;
+
+/**
+ * Keeps the ids of the articles of each tag in memory, so that listing articles by tag walks a set of
+ * ids and fetches the page by primary key, instead of joining article tags in the database.
+ *
+ * <p>The articles of a tag are kept as {@link ArticlePositions}, ordered like every article page,
+ * and probed by id for the other tags. They are loaded from the {@link ArticleTagRepository} on first
+ * use and then replaced copy-on-write by tagging and deleting articles.
+ *
+ * <p>Note: Only changes made through this instance are seen, so the index is disabled by default. With
+ * several application instances, keep it disabled or put a shared invalidation in front of it.
+ */
+@Component
+class ArticleTagIndex implements MeterBinder {
+    private final boolean enabled;
+    private final ArticleTagRepository articleTagRepository;
+    private final Map<String, ArticlePositions> articles = new ConcurrentHashMap<>();
+
+    // Note: Guarded by this. A tag has a version while it is loading or loaded, and every change of its
+    // articles bumps it, so that a load that raced with a change is not kept.
+    private final Map<String, Long> versions = new HashMap<>();
+
+    ArticleTagIndex(
+            ArticleTagRepository articleTagRepository,
+            @Value("${realworld.article.tag-index.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+        this.articleTagRepository = articleTagRepository;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get a page of the ids of the articles tagged with all the tags, latest first.
+     *
+     * @param tagNames tag names, the articles must have every one of them
+     * @param cursor position to start after, or {@code null} to start from the latest article
+     * @param skip number of matching articles to skip
+     * @param limit maximum number of article ids
+     * @return Returns article ids, latest first
+     */
+    List<Integer> findArticleIds(Collection<String> tagNames, PageCursor cursor, int skip, int limit) {
+        // Note: The smallest tag is walked and the others are probed, so the cost follows the rarest tag.
+        List<ArticlePositions> tags = tagNames.stream()
+                .distinct()
+                .map(this::articlesOf)
+                .sorted(Comparator.comparingInt(ArticlePositions::size))
+                .toList();
+        if (tags.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        return tags.get(0).page(tags.subList(1, tags.size()), cursor, skip, limit);
+    }
+
+    synchronized void articleTagged(Article article, Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            versions.computeIfPresent(tag.getName(), (tagName, version) -> version + 1);
+            articles.computeIfPresent(tag.getName(), (tagName, tagArticles) -> tagArticles.with(article));
+        }
+    }
+
+    synchronized void articleDeleted(Article article) {
+        // Note: Tags of the deleted article are not known here, so the article is removed from every loaded tag.
+        versions.replaceAll((tagName, version) -> version + 1);
+        articles.replaceAll((tagName, tagArticles) -> tagArticles.without(article.getId()));
+    }
+
+    /**
+     * Estimate the memory held by the index.
+     *
+     * @return Returns the memory footprint of the loaded tags and article ids
+     */
+    Footprint footprint() {
+        long entries = 0;
+        long bytes = 0;
+        for (ArticlePositions tagArticles : articles.values()) {
+            entries += tagArticles.size();
+            bytes += Footprint.BYTES_PER_TAG + tagArticles.bytes();
+        }
+
+        return new Footprint(articles.size(), entries, bytes);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("article.tag.index.tags", this, articleTagIndex -> articleTagIndex.footprint().tags())
+                .register(registry);
+        Gauge.builder("article.tag.index.entries", this, articleTagIndex -> articleTagIndex.footprint().entries())
+                .register(registry);
+        Gauge.builder("article.tag.index.memory", this, articleTagIndex -> articleTagIndex.footprint().bytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private ArticlePositions articlesOf(String tagName) {
+        ArticlePositions tagArticles = articles.get(tagName);
+        if (tagArticles != null) {
+            return tagArticles;
+        }
+
+        long version;
+        synchronized (this) {
+            version = versions.computeIfAbsent(tagName, name -> 0L);
+        }
+
+        tagArticles = ArticlePositions.of(articleTagRepository.findArticlePositionsByTagName(tagName));
+
+        synchronized (this) {
+            // Note: Unused tag names are not kept either, since any name can be asked for.
+            Long current = versions.get(tagName);
+            if (current != null && current == version && tagArticles.size() > 0) {
+                articles.putIfAbsent(tagName, tagArticles);
+            } else if (!articles.containsKey(tagName)) {
+                versions.remove(tagName);
+            }
+        }
+
+        return tagArticles;
+    }
+
+    /**
+     * Estimated memory footprint of the tag index.
+     *
+     * @param tags number of loaded tags
+     * @param entries number of loaded article tags
+     * @param bytes estimated bytes held by tags and article ids
+     */
+    record Footprint(int tags, long entries, long bytes) {
+        /** Rough size of a tag name key and the map entry holding it. */
+        static final long BYTES_PER_TAG = 96L;
+
+        long bytesPerMillionEntries() {
+            return entries == 0 ? 0 : bytes * 1_000_000L / entries;
+        }
+    }
+}
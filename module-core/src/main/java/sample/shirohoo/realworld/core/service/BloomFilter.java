@@ -0,0 +1,96 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter of strings. It answers whether a string might have been put, with no false
+ * negatives and a false positive rate that grows as the filter fills up. Putting and checking are
+ * thread-safe and do not lock.
+ */
+final class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLong setBits = new AtomicLong();
+
+    /**
+     * Size a filter for the number of strings, so that it has the false positive rate once they are
+     * all put.
+     *
+     * @param expectedInsertions expected number of distinct strings
+     * @param falsePositiveRate target false positive rate, between 0 and 1
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be greater than 0.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1.");
+        }
+
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * Long.SIZE;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long index = this.indexOf(hash1 + i * hash2);
+            long mask = 1L << index;
+            long previous = words.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+            if ((previous & mask) == 0) {
+                setBits.incrementAndGet();
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long index = this.indexOf(hash1 + i * hash2);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimate the false positive rate from how full the filter is.
+     *
+     * @return Returns the probability that a string that was never put is reported as present
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bits, hashes);
+    }
+
+    private long indexOf(int combinedHash) {
+        // Note: A negative hash is flipped instead of negated, so that Integer.MIN_VALUE stays in range.
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bits;
+    }
+
+    /** FNV-1a over the characters, finished with the MurmurHash3 mixer to spread both halves. */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
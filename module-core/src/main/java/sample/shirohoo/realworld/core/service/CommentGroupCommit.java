@@ -0,0 +1,190 @@
+package sample.shirohoo.realworld.core.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleComment;
+import sample.shirohoo.realworld.core.model.ArticleCommentRepository;
+import sample.shirohoo.realworld.core.model.ArticleCounterRepository;
+
+/**
+ * Saves comments written at about the same time with one JDBC batch and one commit, instead of one
+ * commit per comment. The first comment of a batch waits at most the max latency for others to
+ * join, and each caller gets its own saved comment back. The comments counters are updated once
+ * per article of the batch, not once per comment.
+ *
+ * <p>Note: If a batch fails, its comments are saved one by one, so that a single invalid comment
+ * does not fail the others.
+ */
+@Component
+class CommentGroupCommit implements AutoCloseable {
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final boolean enabled;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ArticleCounterRepository articleCounterRepository;
+    private final long maxLatencyNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingComment> pendingComments;
+    private final Thread committer;
+    private volatile boolean running = true;
+
+    CommentGroupCommit(
+            ArticleCommentRepository articleCommentRepository,
+            ArticleCounterRepository articleCounterRepository,
+            @Value("${realworld.article.comment.group-commit.enabled:false}") boolean enabled,
+            @Value("${realworld.article.comment.group-commit.max-latency:5ms}") Duration maxLatency,
+            @Value("${realworld.article.comment.group-commit.max-batch-size:100}") int maxBatchSize,
+            @Value("${realworld.article.comment.group-commit.queue-capacity:10000}") int queueCapacity) {
+        this.enabled = enabled;
+        this.articleCommentRepository = articleCommentRepository;
+        this.articleCounterRepository = articleCounterRepository;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.pendingComments = new ArrayBlockingQueue<>(queueCapacity);
+        this.committer = Thread.ofPlatform()
+                .name("comment-group-commit")
+                .daemon()
+                .unstarted(this::commitLoop);
+
+        if (enabled) {
+            committer.start();
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Save the comment with the next batch and wait until it is committed.
+     *
+     * @param articleComment comment
+     * @return Returns the saved comment
+     */
+    ArticleComment save(ArticleComment articleComment) {
+        try {
+            return this.submit(articleComment).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while saving comment.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Queue the comment for the next batch.
+     *
+     * @param articleComment comment
+     * @return Returns a future completed with the saved comment once the batch is committed
+     */
+    CompletableFuture<ArticleComment> submit(ArticleComment articleComment) {
+        var pendingComment = new PendingComment(articleComment, new CompletableFuture<>());
+        if (!running || !pendingComments.offer(pendingComment)) {
+            throw new RejectedExecutionException("too many comments, please try again later.");
+        }
+
+        return pendingComment.future();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        committer.join();
+    }
+
+    private void commitLoop() {
+        List<PendingComment> batch = new ArrayList<>(maxBatchSize);
+
+        // Note: Comments still queued on close are committed before the loop ends.
+        while (running || !pendingComments.isEmpty()) {
+            try {
+                PendingComment first = pendingComments.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingComment next = pendingComments.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                this.commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pendingComment -> pendingComment.future().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingComment> batch) {
+        List<ArticleComment> savedComments;
+        try {
+            savedComments = articleCommentRepository.saveAll(
+                    batch.stream().map(PendingComment::articleComment).toList());
+        } catch (RuntimeException e) {
+            // Note: A comment that fails on its own is left as null, and its caller gets the failure.
+            savedComments = batch.stream().map(this::commitAlone).toList();
+        }
+
+        this.countComments(savedComments.stream().filter(Objects::nonNull).toList());
+        for (int i = 0; i < batch.size(); i++) {
+            if (savedComments.get(i) != null) {
+                batch.get(i).future().complete(savedComments.get(i));
+            }
+        }
+    }
+
+    private ArticleComment commitAlone(PendingComment pendingComment) {
+        try {
+            // Note: The id taken by the failed batch was rolled back with it.
+            pendingComment.articleComment().setId(null);
+            return articleCommentRepository.save(pendingComment.articleComment());
+        } catch (RuntimeException e) {
+            pendingComment.future().completeExceptionally(e);
+            return null;
+        }
+    }
+
+    private void countComments(List<ArticleComment> savedComments) {
+        Map<Article, Integer> commentsCounts = savedComments.stream()
+                .collect(groupingBy(ArticleComment::getArticle, LinkedHashMap::new, summingInt(comment -> 1)));
+
+        try {
+            commentsCounts.forEach(articleCounterRepository::addCommentsCount);
+        } catch (RuntimeException e) {
+            // Note: The comments are already committed, a missed count is repaired by the periodic reconcile.
+        }
+    }
+
+    private record PendingComment(ArticleComment articleComment, CompletableFuture<ArticleComment> future) {}
+}
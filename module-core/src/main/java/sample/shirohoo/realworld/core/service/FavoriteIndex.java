@@ -0,0 +1,155 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleFavoriteRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.User;
+
+/**
+ * Keeps the ids of the articles each user has favorited in memory, so that favorited flags are set
+ * lookups and listing the favorites of a user walks a set of ids instead of joining favorites in the
+ * database.
+ *
+ * <p>The favorites of a user are stored as {@link ArticlePositions}, ordered like every article page,
+ * loaded from the {@link ArticleFavoriteRepository} on first use and then replaced copy-on-write by
+ * favorite and unfavorite. Users that have not been seen for a while are evicted and loaded again
+ * when they come back.
+ *
+ * <p>Note: Only changes made through this instance are seen, so the index is disabled by default. With
+ * several application instances, keep it disabled or put a shared invalidation in front of it.
+ */
+@Component
+class FavoriteIndex implements MeterBinder {
+    private final boolean enabled;
+    private final ArticleFavoriteRepository articleFavoriteRepository;
+    private final Cache<UUID, ArticlePositions> favorites;
+
+    // Note: Guarded by this. A user has a version only while their favorites are loading, and every change
+    // of their favorites bumps it, so that a load that raced with a change is not kept.
+    private final Map<UUID, Long> versions = new HashMap<>();
+
+    FavoriteIndex(
+            ArticleFavoriteRepository articleFavoriteRepository,
+            @Value("${realworld.article.favorite-index.enabled:false}") boolean enabled,
+            @Value("${realworld.article.favorite-index.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.article.favorite-index.expire-after-access:10m}") Duration expireAfterAccess) {
+        this.enabled = enabled;
+        this.articleFavoriteRepository = articleFavoriteRepository;
+        this.favorites = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check if the user has favorited the article.
+     *
+     * @param user user
+     * @param article article
+     * @return Returns true if favorited
+     */
+    boolean isFavorited(User user, Article article) {
+        if (!enabled) {
+            return articleFavoriteRepository.existsByUserAndArticle(user, article);
+        }
+
+        return IntSets.contains(this.favoritesOf(user).idSet(), article.getId());
+    }
+
+    /**
+     * Get the favorites of the user once, to check a whole page of articles against them.
+     *
+     * @param user user
+     * @return Returns a check of whether the user has favorited an article
+     */
+    Predicate<Article> favoritedBy(User user) {
+        if (!enabled) {
+            return article -> articleFavoriteRepository.existsByUserAndArticle(user, article);
+        }
+
+        Object ids = this.favoritesOf(user).idSet();
+        return article -> IntSets.contains(ids, article.getId());
+    }
+
+    /**
+     * Get a page of the ids of the articles the user has favorited, latest first.
+     *
+     * @param user user
+     * @param cursor position to start after, or {@code null} to start from the latest article
+     * @param skip number of favorited articles to skip
+     * @param limit maximum number of article ids
+     * @return Returns article ids, latest first
+     */
+    List<Integer> findArticleIds(User user, PageCursor cursor, int skip, int limit) {
+        return this.favoritesOf(user).page(List.of(), cursor, skip, limit);
+    }
+
+    synchronized void favorited(User user, Article article) {
+        versions.computeIfPresent(user.getId(), (userId, version) -> version + 1);
+        favorites.asMap().computeIfPresent(user.getId(), (userId, positions) -> positions.with(article));
+    }
+
+    synchronized void unfavorited(User user, Article article) {
+        versions.computeIfPresent(user.getId(), (userId, version) -> version + 1);
+        favorites.asMap().computeIfPresent(user.getId(), (userId, positions) -> positions.without(article.getId()));
+    }
+
+    synchronized void articleDeleted(Article article) {
+        versions.replaceAll((userId, version) -> version + 1);
+
+        // Note: Users who favorited the deleted article are not known here, so it is removed from every loaded user.
+        favorites.asMap().replaceAll((userId, positions) -> positions.without(article.getId()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, favorites, "favorite");
+    }
+
+    private ArticlePositions favoritesOf(User user) {
+        ArticlePositions positions = favorites.getIfPresent(user.getId());
+        if (positions != null) {
+            return positions;
+        }
+
+        long version;
+        synchronized (this) {
+            version = versions.computeIfAbsent(user.getId(), userId -> 0L);
+        }
+
+        positions = ArticlePositions.of(articleFavoriteRepository.findArticlePositionsByUser(user));
+
+        synchronized (this) {
+            // Note: A concurrent load of the same user may have finished first and removed the version, then this
+            // load is not kept either.
+            Long current = versions.remove(user.getId());
+            if (current != null && current == version) {
+                favorites.asMap().putIfAbsent(user.getId(), positions);
+            }
+        }
+
+        return positions;
+    }
+}
@@ -0,0 +1,149 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleFacets;
+import sample.shirohoo.realworld.core.model.ArticleRepository;
+import sample.shirohoo.realworld.core.model.PageSlice;
+import sample.shirohoo.realworld.core.model.TimelineRepository;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+
+/**
+ * Maintains the home timelines that back the feed. New articles are pushed into the timelines of
+ * the followers of their author, except for popular authors, whose articles are pulled when the
+ * feed is read instead of being copied to every follower.
+ *
+ * <p>Popular authors are kept in memory and reloaded periodically from the followers count stored
+ * on users, so neither writing nor reading counts followers. When an author is no longer popular,
+ * their latest articles are pushed to the timelines of their followers.
+ *
+ * <p>Note: Timelines are bounded by a capacity, pages beyond it are pulled from all followings.
+ */
+@Component
+class FeedTimeline {
+    private static final Comparator<Article> LATEST_FIRST = Comparator.comparing(Article::getCreatedAt)
+            .thenComparing(Article::getId)
+            .reversed();
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int popularFollowers;
+    private final TimelineRepository timelineRepository;
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final FollowGraph followGraph;
+    private volatile Set<User> popularAuthors = Set.of();
+
+    FeedTimeline(
+            TimelineRepository timelineRepository,
+            UserRepository userRepository,
+            ArticleRepository articleRepository,
+            FollowGraph followGraph,
+            @Value("${realworld.feed.timeline.enabled:true}") boolean enabled,
+            @Value("${realworld.feed.timeline.capacity:800}") int capacity,
+            @Value("${realworld.feed.timeline.popular-followers:10000}") int popularFollowers) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.popularFollowers = popularFollowers;
+        this.timelineRepository = timelineRepository;
+        this.userRepository = userRepository;
+        this.articleRepository = articleRepository;
+        this.followGraph = followGraph;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void articleWritten(Article article) {
+        if (enabled && !this.isPopular(article.getAuthor())) {
+            timelineRepository.fanOut(article);
+        }
+    }
+
+    void followed(User follower, User following) {
+        if (enabled && !this.isPopular(following)) {
+            timelineRepository.backfill(follower, following, capacity);
+        }
+    }
+
+    void unfollowed(User follower, User following) {
+        if (enabled) {
+            timelineRepository.prune(follower, following);
+        }
+    }
+
+    /**
+     * Get articles of the feed, merging the timeline with articles pulled from popular followings.
+     *
+     * @param owner user who requested
+     * @param facets article facets
+     * @return Returns a page of articles of the feed, latest first
+     */
+    PageSlice<Article> read(User owner, ArticleFacets facets) {
+        int skip = facets.cursor() == null ? facets.page() * facets.size() : 0;
+        // Note: One more article than the page is read to find out whether another page follows.
+        int window = skip + facets.size() + 1;
+
+        List<Article> pushed = timelineRepository.findArticles(owner, facets.cursor(), window);
+
+        List<Article> pulled;
+        if (pushed.size() < window && (facets.cursor() != null || window > capacity)) {
+            // Note: Trimming keeps the latest articles up to the capacity, so a short page from the top is complete.
+            // Past the capacity or after a cursor the timeline may have been trimmed, and older articles are
+            // only found in the articles table.
+            pulled = articleRepository.findFeed(owner, facets.cursor(), window);
+        } else {
+            Set<User> authors = popularAuthors;
+            Set<User> pulledAuthors = authors.isEmpty() ? Set.of() : followGraph.followingAmong(owner, authors);
+            pulled = pulledAuthors.isEmpty()
+                    ? List.of()
+                    : articleRepository.findByAuthorIn(pulledAuthors, facets.cursor(), window);
+        }
+
+        List<Article> articles = Stream.concat(pushed.stream(), pulled.stream())
+                .distinct()
+                .sorted(LATEST_FIRST)
+                .skip(skip)
+                .limit(facets.size() + 1)
+                .toList();
+        return PageSlice.of(articles, facets.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${realworld.feed.timeline.popular-reload-interval:PT1M}",
+            fixedDelayString = "${realworld.feed.timeline.popular-reload-interval:PT1M}")
+    public void reloadPopularAuthors() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<User> previous = popularAuthors;
+        Set<User> reloaded = Set.copyOf(userRepository.findPopular(popularFollowers));
+        popularAuthors = reloaded;
+
+        // Note: Articles written while an author was popular were never pushed, so they are pushed once the
+        // author is no longer pulled. New articles are already pushed, as the author left the popular set first.
+        for (User author : previous) {
+            if (!reloaded.contains(author)) {
+                timelineRepository.backfillFollowers(author, capacity);
+            }
+        }
+    }
+
+    private boolean isPopular(User user) {
+        return popularAuthors.contains(user);
+    }
+}
@@ -0,0 +1,222 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import sample.shirohoo.realworld.core.model.SocialRepository;
+import sample.shirohoo.realworld.core.model.User;
+
+/**
+ * Keeps who follows whom in memory, so that follow checks do not hit the database.
+ *
+ * <p>Users are mapped to dense int ids, and the followings of a user are stored as {@link IntSets},
+ * i.e. a sorted {@code int[]}, or a {@link BitSet} once that is smaller. Followings are loaded from
+ * the {@link SocialRepository} on first use and then replaced copy-on-write by follow and unfollow,
+ * so a check is a lock-free lookup that does not allocate.
+ *
+ * <p>Note: Only changes made through this instance are seen. With several application instances,
+ * keep the graph disabled, which it is by default, or put a shared invalidation in front of it.
+ */
+@Component
+class FollowGraph implements MeterBinder {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final boolean enabled;
+    private final SocialRepository socialRepository;
+    private final Map<UUID, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    // Note: Guarded by this. A user has a version only while their followings are loading, and every follow or
+    // unfollow by them bumps it, so that a load that raced with a change is not kept.
+    private final Map<Integer, Long> versions = new HashMap<>();
+    private volatile AtomicReferenceArray<Object> followings = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    FollowGraph(
+            SocialRepository socialRepository,
+            @Value("${realworld.social.follow-graph.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+        this.socialRepository = socialRepository;
+    }
+
+    /**
+     * Check if the follower is following the following.
+     *
+     * @param follower follower
+     * @param following following
+     * @return Returns true if following
+     */
+    boolean isFollowing(User follower, User following) {
+        if (!enabled) {
+            return socialRepository.existsByFollowerAndFollowing(follower, following);
+        }
+
+        Object edges = this.followingsOf(follower);
+
+        // Note: Loading the followings assigns ids to all of them, so a user without id is not followed.
+        Integer target = ids.get(following.getId());
+        return target != null && IntSets.contains(edges, target);
+    }
+
+    /**
+     * Get the users among the candidates that the follower is following.
+     *
+     * @param follower follower
+     * @param candidates users to check
+     * @return Returns the followed candidates
+     */
+    Set<User> followingAmong(User follower, Collection<User> candidates) {
+        if (!enabled) {
+            return socialRepository.findFollowingAmong(follower, candidates);
+        }
+
+        Object edges = this.followingsOf(follower);
+        return candidates.stream()
+                .filter(candidate -> {
+                    Integer target = ids.get(candidate.getId());
+                    return target != null && IntSets.contains(edges, target);
+                })
+                .collect(Collectors.toSet());
+    }
+
+    synchronized void followed(User follower, User following) {
+        int source = this.idOf(follower.getId());
+        versions.computeIfPresent(source, (id, version) -> version + 1);
+
+        Object edges = followings.get(source);
+        if (edges != null) {
+            followings.set(source, IntSets.with(edges, this.idOf(following.getId())));
+        }
+    }
+
+    synchronized void unfollowed(User follower, User following) {
+        int source = this.idOf(follower.getId());
+        versions.computeIfPresent(source, (id, version) -> version + 1);
+
+        Integer target = ids.get(following.getId());
+        Object edges = followings.get(source);
+        if (edges != null && target != null) {
+            followings.set(source, IntSets.without(edges, target));
+        }
+    }
+
+    /**
+     * Estimate the memory held by the graph.
+     *
+     * @return Returns the memory footprint of the loaded users and edges
+     */
+    Footprint footprint() {
+        AtomicReferenceArray<Object> snapshot = followings;
+
+        long edges = 0;
+        long bytes = ids.size() * Footprint.BYTES_PER_USER + 16L + 4L * snapshot.length();
+        for (int i = 0; i < snapshot.length(); i++) {
+            Object adjacency = snapshot.get(i);
+            if (adjacency != null) {
+                edges += IntSets.size(adjacency);
+                bytes += IntSets.bytes(adjacency);
+            }
+        }
+
+        return new Footprint(ids.size(), edges, bytes);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("follow.graph.users", this, followGraph -> followGraph.footprint().users())
+                .register(registry);
+        Gauge.builder("follow.graph.edges", this, followGraph -> followGraph.footprint().edges())
+                .register(registry);
+        Gauge.builder("follow.graph.memory", this, followGraph -> followGraph.footprint().bytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private Object followingsOf(User follower) {
+        int source = this.idOf(follower.getId());
+
+        Object edges = followings.get(source);
+        if (edges != null) {
+            return edges;
+        }
+
+        long version;
+        synchronized (this) {
+            version = versions.computeIfAbsent(source, id -> 0L);
+        }
+
+        int[] loaded = socialRepository.findByFollower(follower).stream()
+                .mapToInt(userFollow -> this.idOf(userFollow.getFollowing().getId()))
+                .sorted()
+                .distinct()
+                .toArray();
+        edges = IntSets.pack(loaded);
+
+        synchronized (this) {
+            // Note: A follow or unfollow may have happened while loading, then the loaded edges can be stale. A
+            // concurrent load of the same user may also have finished first and removed the version.
+            Long current = versions.remove(source);
+            if (current != null && current == version && followings.get(source) == null) {
+                followings.set(source, edges);
+            }
+        }
+
+        return edges;
+    }
+
+    private int idOf(UUID userId) {
+        Integer id = ids.get(userId);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (this) {
+            id = ids.computeIfAbsent(userId, key -> nextId.getAndIncrement());
+            this.ensureCapacity(id);
+            return id;
+        }
+    }
+
+    private void ensureCapacity(int id) {
+        AtomicReferenceArray<Object> current = followings;
+        if (id < current.length()) {
+            return;
+        }
+
+        AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(Math.max(id + 1, current.length() * 2));
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        followings = grown;
+    }
+
+    /**
+     * Estimated memory footprint of the follow graph.
+     *
+     * @param users number of users with an id
+     * @param edges number of loaded follow edges
+     * @param bytes estimated bytes held by ids and edges
+     */
+    record Footprint(int users, long edges, long bytes) {
+        /** Rough size of a {@link UUID} key, its boxed id and the map entry holding them. */
+        static final long BYTES_PER_USER = 96L;
+
+        long bytesPerMillionEdges() {
+            return edges == 0 ? 0 : bytes * 1_000_000L / edges;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable sets of non-negative ints, stored as a sorted {@code int[]}, or as a {@link BitSet} once
+ * that is smaller. A set is never modified in place, adding or removing returns a copy, so a set can
+ * be read without locking while it is replaced.
+ */
+final class IntSets {
+    private IntSets() {}
+
+    static boolean contains(Object set, int value) {
+        if (set instanceof BitSet bitSet) {
+            return bitSet.get(value);
+        }
+        return Arrays.binarySearch((int[]) set, value) >= 0;
+    }
+
+    static Object with(Object set, int value) {
+        if (contains(set, value)) {
+            return set;
+        }
+
+        if (set instanceof BitSet bitSet) {
+            BitSet copy = (BitSet) bitSet.clone();
+            copy.set(value);
+            return copy;
+        }
+
+        int[] array = (int[]) set;
+        int position = -Arrays.binarySearch(array, value) - 1;
+        int[] copy = new int[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, position);
+        copy[position] = value;
+        System.arraycopy(array, position, copy, position + 1, array.length - position);
+        return pack(copy);
+    }
+
+    static Object without(Object set, int value) {
+        if (!contains(set, value)) {
+            return set;
+        }
+
+        if (set instanceof BitSet bitSet) {
+            BitSet copy = (BitSet) bitSet.clone();
+            copy.clear(value);
+            return pack(copy.stream().toArray());
+        }
+
+        int[] array = (int[]) set;
+        int position = Arrays.binarySearch(array, value);
+        int[] copy = new int[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, position);
+        System.arraycopy(array, position + 1, copy, position, array.length - position - 1);
+        return copy;
+    }
+
+    static int size(Object set) {
+        if (set instanceof BitSet bitSet) {
+            return bitSet.cardinality();
+        }
+        return ((int[]) set).length;
+    }
+
+    /** Rough number of bytes held by the set, including its object header. */
+    static long bytes(Object set) {
+        if (set instanceof BitSet bitSet) {
+            return 40L + bitSet.size() / Byte.SIZE;
+        }
+        return 16L + 4L * ((int[]) set).length;
+    }
+
+    /** Use a bitmap once it takes less memory than the sorted array, i.e. for dense sets. */
+    static Object pack(int[] sorted) {
+        if (sorted.length == 0 || (long) sorted.length * Integer.SIZE <= sorted[sorted.length - 1] + 1L) {
+            return sorted;
+        }
+
+        BitSet bitSet = new BitSet(sorted[sorted.length - 1] + 1);
+        for (int value : sorted) {
+            bitSet.set(value);
+        }
+        return bitSet;
+    }
+}
@@ -1,5 +1,8 @@
 package sample.shirohoo.realworld.core.service;
 
+import java.util.Collection;
+import java.util.Set;
+
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -12,6 +15,8 @@ import sample.shirohoo.realworld.core.model.UserFollow;
 @RequiredArgsConstructor
 public class SocialService {
     private final SocialRepository socialRepository;
+    private final FeedTimeline feedTimeline;
+    private final FollowGraph followGraph;
 
     /**
      * Check if the follower is following the following.
@@ -19,7 +24,22 @@ public class SocialService {
      * @return Returns true if already following
      */
     public boolean isFollowing(User follower, User following) {
-        return socialRepository.existsByFollowerAndFollowing(follower, following);
+        return followGraph.isFollowing(follower, following);
+    }
+
+    /**
+     * Resolve the follow state of many users at once, e.g. the authors of a page of articles.
+     *
+     * @param follower user who requested
+     * @param candidates users to check
+     * @return Returns the candidates that the follower is following
+     */
+    public Set<User> findFollowingAmong(User follower, Collection<User> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        return followGraph.followingAmong(follower, candidates);
     }
 
     /** Follow user. */
@@ -29,12 +49,16 @@ public class SocialService {
         }
 
         socialRepository.save(new UserFollow(follower, following));
+        followGraph.followed(follower, following);
+        feedTimeline.followed(follower, following);
     }
 
     /** Unfollow user. */
     public void unfollow(User follower, User following) {
         if (this.isFollowing(follower, following)) {
             socialRepository.deleteByFollowerAndFollowing(follower, following);
+            followGraph.unfollowed(follower, following);
+            feedTimeline.unfollowed(follower, following);
         }
     }
 }
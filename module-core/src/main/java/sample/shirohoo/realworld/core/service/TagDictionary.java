@@ -0,0 +1,124 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import sample.shirohoo.realworld.core.model.Tag;
+import sample.shirohoo.realworld.core.model.TagRepository;
+
+/**
+ * Keeps all tags in memory as an immutable snapshot, so that listing tags and resolving the tags of
+ * a new article do not query the database. New tags are added by swapping in a copy of the
+ * snapshot, so readers never lock and always see a consistent set of tags.
+ *
+ * <p>Note: Tags created by other application instances are picked up by the periodic reload, until
+ * then they are still resolved through the database.
+ */
+@Component
+class TagDictionary {
+    private final boolean enabled;
+    private final TagRepository tagRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    TagDictionary(TagRepository tagRepository, @Value("${realworld.tag.dictionary.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.tagRepository = tagRepository;
+    }
+
+    /**
+     * Get all tags.
+     *
+     * @return Returns all tags, the same instance until a tag is added
+     */
+    List<Tag> getTags() {
+        if (!enabled) {
+            return tagRepository.findAll();
+        }
+
+        return this.snapshot().tags();
+    }
+
+    /**
+     * Get tags by name, creating the ones that do not exist yet. Only unknown names go to the
+     * database.
+     *
+     * @param names tag names
+     * @return Returns the tags of the distinct names
+     */
+    Set<Tag> resolveOrCreate(Collection<String> names) {
+        if (!enabled) {
+            return tagRepository.resolveOrCreate(names);
+        }
+
+        Snapshot current = this.snapshot();
+        Set<Tag> tags = new HashSet<>();
+        List<String> unknownNames = new ArrayList<>();
+        for (String name : names) {
+            Tag tag = current.byName().get(name);
+            if (tag == null) {
+                unknownNames.add(name);
+            } else {
+                tags.add(tag);
+            }
+        }
+
+        if (!unknownNames.isEmpty()) {
+            Set<Tag> createdTags = tagRepository.resolveOrCreate(unknownNames);
+            snapshot.updateAndGet(previous -> previous.with(createdTags));
+            tags.addAll(createdTags);
+        }
+
+        return tags;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${realworld.tag.dictionary.reload-interval:PT1M}",
+            fixedDelayString = "${realworld.tag.dictionary.reload-interval:PT1M}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+
+        // Note: Merging keeps tags that were added while the tags were loaded.
+        List<Tag> loadedTags = tagRepository.findAll();
+        snapshot.updateAndGet(previous -> (previous == null ? Snapshot.EMPTY : previous).with(loadedTags));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            this.reload();
+            current = snapshot.get();
+        }
+
+        return current;
+    }
+
+    private record Snapshot(Map<String, Tag> byName, List<Tag> tags) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), List.of());
+
+        Snapshot with(Collection<Tag> addedTags) {
+            Map<String, Tag> merged = new LinkedHashMap<>();
+            tags.forEach(tag -> merged.put(tag.getName(), tag));
+            addedTags.forEach(tag -> merged.putIfAbsent(tag.getName(), tag));
+            if (merged.size() == tags.size()) {
+                return this;
+            }
+
+            return new Snapshot(Map.copyOf(merged), List.copyOf(merged.values()));
+        }
+    }
+}
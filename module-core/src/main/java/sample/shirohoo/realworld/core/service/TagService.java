@@ -7,20 +7,18 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
 import sample.shirohoo.realworld.core.model.Tag;
-import sample.shirohoo.realworld.core.model.TagRepository;
 
 @Service
 @RequiredArgsConstructor
 public class TagService {
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
 
     /**
      * Get all tags.
      *
-     * @return Returns all tags
+     * @return Returns all tags, the same unmodifiable list until a tag is added
      */
     public List<Tag> getTags() {
-        // Note: If there are too many tags, recommend apply cursor based pagination.
-        return tagRepository.findAll();
+        return tagDictionary.getTags();
     }
 }
@@ -0,0 +1,175 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import sample.shirohoo.realworld.core.model.ArticleRepository;
+import sample.shirohoo.realworld.core.model.UserRepository;
+
+/**
+ * Keeps Bloom filters of all emails, usernames and article titles, so that the uniqueness checks on
+ * signup, profile updates and publishing, which almost always find nothing, only go to the database
+ * when the value might already exist.
+ *
+ * <p>The filters are built on startup by streaming the tables and then updated by writes. Until a
+ * build has finished every value might exist, so all checks go to the database. The unique
+ * constraints stay the final guard.
+ *
+ * <p>Note: Values are compared ignoring case, since the database does. Only values written through
+ * this instance are added, so the filters are disabled by default, keep them disabled with several
+ * application instances. The expected false positive rate is published as {@code
+ * uniqueness.filter.false.positive.rate}, and checks as {@code uniqueness.filter.checks} by result.
+ */
+@Component
+class UniquenessFilters implements MeterBinder {
+    private final boolean enabled;
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final Filter emails;
+    private final Filter usernames;
+    private final Filter titles;
+
+    UniquenessFilters(
+            UserRepository userRepository,
+            ArticleRepository articleRepository,
+            @Value("${realworld.uniqueness-filter.enabled:false}") boolean enabled,
+            @Value("${realworld.uniqueness-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${realworld.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.enabled = enabled;
+        this.userRepository = userRepository;
+        this.articleRepository = articleRepository;
+        this.emails = new Filter("email", expectedInsertions, falsePositiveRate);
+        this.usernames = new Filter("username", expectedInsertions, falsePositiveRate);
+        this.titles = new Filter("title", expectedInsertions, falsePositiveRate);
+    }
+
+    Filter emails() {
+        return emails;
+    }
+
+    Filter usernames() {
+        return usernames;
+    }
+
+    Filter titles() {
+        return titles;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        // Note: Values written while streaming are added by the writes themselves.
+        userRepository.forEachEmailAndUsername((email, username) -> {
+            emails.add(email);
+            usernames.add(username);
+        });
+        articleRepository.forEachTitle(titles::add);
+
+        emails.ready = true;
+        usernames.ready = true;
+        titles.ready = true;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Filter filter : List.of(emails, usernames, titles)) {
+            Gauge.builder("uniqueness.filter.false.positive.rate", filter, Filter::expectedFalsePositiveRate)
+                    .tag("filter", filter.name)
+                    .register(registry);
+            this.bindChecks(registry, filter, "negative", filter.negatives);
+            this.bindChecks(registry, filter, "positive", filter.positives);
+            this.bindChecks(registry, filter, "false_positive", filter.falsePositives);
+        }
+    }
+
+    private void bindChecks(MeterRegistry registry, Filter filter, String result, LongAdder checks) {
+        FunctionCounter.builder("uniqueness.filter.checks", checks, LongAdder::doubleValue)
+                .tag("filter", filter.name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** The Bloom filter of one kind of unique value. */
+    static final class Filter {
+        private final String name;
+        private final BloomFilter bloomFilter;
+        private final LongAdder negatives = new LongAdder();
+        private final LongAdder positives = new LongAdder();
+        private final LongAdder falsePositives = new LongAdder();
+        private volatile boolean ready;
+
+        private Filter(String name, long expectedInsertions, double falsePositiveRate) {
+            this.name = name;
+            this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        /**
+         * Check if the value might exist, without going to the database.
+         *
+         * @param value value
+         * @return Returns false if the value certainly does not exist
+         */
+        boolean mightExist(String value) {
+            if (!ready || value == null) {
+                return true;
+            }
+
+            boolean mightExist = bloomFilter.mightContain(normalize(value));
+            (mightExist ? positives : negatives).increment();
+            return mightExist;
+        }
+
+        /**
+         * Check if the value exists, going to the database only if it might.
+         *
+         * @param value value
+         * @param existsInDatabase check against the database
+         * @return Returns true if the value exists
+         */
+        boolean exists(String value, Predicate<String> existsInDatabase) {
+            if (!this.mightExist(value)) {
+                return false;
+            }
+
+            boolean exists = existsInDatabase.test(value);
+            if (!exists && ready) {
+                falsePositives.increment();
+            }
+            return exists;
+        }
+
+        void add(String value) {
+            if (value != null) {
+                bloomFilter.put(normalize(value));
+            }
+        }
+
+        /**
+         * Get the false positive rate expected from how full the filter is.
+         *
+         * @return Returns the rate, or 1 until the filter is built
+         */
+        double expectedFalsePositiveRate() {
+            return ready ? bloomFilter.expectedFalsePositiveRate() : 1.0;
+        }
+
+        private static String normalize(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package sample.shirohoo.realworld.core.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserRepository;
+
+/**
+ * Keeps users by id for a short while, since every authenticated request loads the requester by
+ * the id in its token.
+ *
+ * <p>Note: Cached users are shared between requests, so they are never changed. Updates are made to
+ * a freshly loaded instance, and the user is evicted before and after it is saved. The short expiry
+ * bounds how long changes made by other instances stay invisible.
+ */
+@Component
+class UserCache implements MeterBinder {
+    private final boolean enabled;
+    private final UserRepository userRepository;
+    private final Cache<UUID, User> users;
+
+    UserCache(
+            UserRepository userRepository,
+            @Value("${realworld.user.cache.enabled:true}") boolean enabled,
+            @Value("${realworld.user.cache.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.user.cache.expire-after-write:10s}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get user by id.
+     *
+     * @param userId user id
+     * @return Returns the user, or empty if there is no user with the id
+     */
+    Optional<User> get(UUID userId) {
+        if (!enabled) {
+            return userRepository.findById(userId);
+        }
+
+        return Optional.ofNullable(users.get(userId, key -> userRepository.findById(key).orElse(null)));
+    }
+
+    void evict(UUID userId) {
+        users.invalidate(userId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, "user");
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 
 import sample.shirohoo.realworld.core.model.PasswordEncoder;
 import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserPatch;
 import sample.shirohoo.realworld.core.model.UserRegistry;
 import sample.shirohoo.realworld.core.model.UserRepository;
 
@@ -16,6 +17,8 @@ import sample.shirohoo.realworld.core.model.UserRepository;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final UniquenessFilters uniquenessFilters;
 
     /**
      * Get user by id.
@@ -23,7 +26,7 @@ public class UserService {
      * @return Returns user
      */
     public User getUserById(UUID userId) {
-        return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("user not found."));
+        return userCache.get(userId).orElseThrow(() -> new IllegalArgumentException("user not found."));
     }
 
     /**
@@ -43,16 +46,19 @@ public class UserService {
      * @param registry User registration information
      * @return Returns the registered user
      */
-    @SuppressWarnings("UnusedReturnValue")
     public User signup(UserRegistry registry) {
-        if (userRepository.existsByEmailOrUsername(registry.email(), registry.username())) {
+        if (this.existsByEmailOrUsername(registry.email(), registry.username())) {
             throw new IllegalArgumentException("email or username is already exists.");
         }
 
         var requester = new User(registry);
         requester.setPassword(passwordEncoder, registry.password());
 
-        return userRepository.save(requester);
+        var savedUser = userRepository.save(requester);
+        uniquenessFilters.emails().add(savedUser.getEmail());
+        uniquenessFilters.usernames().add(savedUser.getUsername());
+
+        return savedUser;
     }
 
     /**
@@ -70,119 +76,104 @@ public class UserService {
             throw new IllegalArgumentException("password is required.");
         }
 
-        return userRepository
+        var loginUser = userRepository
                 .findByEmail(email)
                 .filter(user -> passwordEncoder.matches(password, user.getPassword()))
                 .orElseThrow(() -> new IllegalArgumentException("invalid email or password."));
-    }
 
-    /**
-     * Update user information.
-     *
-     * @param requester The user who requested the update
-     * @param email users email
-     * @return Returns the updated user
-     */
-    public User updateEmail(User requester, String email) {
-        if (requester == null) {
-            throw new IllegalArgumentException("requester is required.");
-        }
-        if (email == null || email.isBlank()) {
-            throw new IllegalArgumentException("email is required.");
+        // Note: The raw password is only known at login, so outdated hashes are upgraded here.
+        if (passwordEncoder.upgradeEncoding(loginUser.getPassword())) {
+            userCache.evict(loginUser.getId());
+            loginUser.setPassword(passwordEncoder, password);
+            return this.save(loginUser);
         }
 
-        if (requester.equalsEmail(email)) {
-            return requester;
-        }
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("email is already exists.");
-        }
-
-        requester.setEmail(email);
-
-        return userRepository.save(requester);
+        return loginUser;
     }
 
     /**
-     * Update user information.
+     * Update several fields of the user's profile at once, with a single uniqueness check and a
+     * single save.
      *
      * @param requester The user who requested the update
-     * @param username users username
+     * @param patch changes to apply, {@code null} fields are left unchanged
      * @return Returns the updated user
      */
-    public User updateUsername(User requester, String username) {
+    public User updateProfile(User requester, UserPatch patch) {
         if (requester == null) {
             throw new IllegalArgumentException("requester is required.");
         }
 
-        // Note: the E2E test defined by the RealWorld specification, username is nullable.
-        // if (username == null || username.isBlank()) {
-        //     throw new IllegalArgumentException("username is required.");
-        // }
-
-        if (requester.equalsUsername(username)) {
-            return requester;
-        }
-        if (userRepository.existsByUsername(username)) {
-            throw new IllegalArgumentException("username is already exists.");
-        }
+        boolean emailChanged = patch.email() != null && !requester.equalsEmail(patch.email());
+        boolean usernameChanged = patch.username() != null && !requester.equalsUsername(patch.username());
+
+        // Note: Only values that might already exist are checked against the database.
+        boolean checkEmail = emailChanged && uniquenessFilters.emails().mightExist(patch.email());
+        boolean checkUsername = usernameChanged && uniquenessFilters.usernames().mightExist(patch.username());
+
+        // Note: The requester may be shared through the user cache, so changes are made to the instance loaded in
+        // the same transaction as the uniqueness check.
+        userCache.evict(requester.getId());
+        var savedUser = userRepository
+                .update(requester.getId(), user -> {
+                    if (checkEmail || checkUsername) {
+                        this.checkUnique(
+                                requester, checkEmail ? patch.email() : null, checkUsername ? patch.username() : null);
+                    }
+
+                    user.setEmail(patch.email());
+                    user.setUsername(patch.username());
+                    user.setPassword(passwordEncoder, patch.password());
+                    if (patch.bio() != null) {
+                        user.setBio(patch.bio());
+                    }
+                    if (patch.imageUrl() != null) {
+                        user.setImageUrl(patch.imageUrl());
+                    }
+                })
+                .orElseThrow(() -> new IllegalArgumentException("user not found."));
+        userCache.evict(requester.getId());
 
-        requester.setUsername(username);
+        uniquenessFilters.emails().add(savedUser.getEmail());
+        uniquenessFilters.usernames().add(savedUser.getUsername());
 
-        return userRepository.save(requester);
+        return savedUser;
     }
 
-    /**
-     * Update user information.
-     *
-     * @param requester The user who requested the update
-     * @param password users password
-     * @return Returns the updated user
-     */
-    public User updatePassword(User requester, String password) {
-        if (requester == null) {
-            throw new IllegalArgumentException("requester is required.");
-        }
-
-        // Note:
-        //  If necessary, you can check the password pattern here.
-        //  the E2E test defined by the RealWorld specification, password is nullable.
-        requester.setPassword(passwordEncoder, password);
-
-        return userRepository.save(requester);
-    }
+    private boolean existsByEmailOrUsername(String email, String username) {
+        boolean emailMightExist = uniquenessFilters.emails().mightExist(email);
+        boolean usernameMightExist = uniquenessFilters.usernames().mightExist(username);
 
-    /**
-     * Update user information.
-     *
-     * @param requester The user who requested the update
-     * @param bio users bio
-     * @return Returns the updated user
-     */
-    public User updateBio(User requester, String bio) {
-        if (requester == null) {
-            throw new IllegalArgumentException("requester is required.");
+        if (emailMightExist && usernameMightExist) {
+            return userRepository.existsByEmailOrUsername(email, username);
         }
-
-        requester.setBio(bio);
-
-        return userRepository.save(requester);
+        if (emailMightExist) {
+            return userRepository.existsByEmail(email);
+        }
+        if (usernameMightExist) {
+            return userRepository.existsByUsername(username);
+        }
+        return false;
     }
 
-    /**
-     * Update user information.
-     *
-     * @param requester The user who requested the update
-     * @param imageUrl users imageUrl
-     * @return Returns the updated user
-     */
-    public User updateImageUrl(User requester, String imageUrl) {
-        if (requester == null) {
-            throw new IllegalArgumentException("requester is required.");
+    private void checkUnique(User requester, String email, String username) {
+        for (var duplicate : userRepository.findByEmailOrUsername(email, username)) {
+            if (duplicate.equals(requester)) {
+                continue;
+            }
+            if (email != null && duplicate.equalsEmail(email)) {
+                throw new IllegalArgumentException("email is already exists.");
+            }
+            if (username != null && duplicate.equalsUsername(username)) {
+                throw new IllegalArgumentException("username is already exists.");
+            }
         }
+    }
 
-        requester.setImageUrl(imageUrl);
+    private User save(User requester) {
+        var savedUser = userRepository.save(requester);
+        userCache.evict(requester.getId());
 
-        return userRepository.save(requester);
+        return savedUser;
     }
 }
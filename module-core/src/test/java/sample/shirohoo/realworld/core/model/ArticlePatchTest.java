@@ -0,0 +1,34 @@
+package sample.shirohoo.realworld.core.model;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ArticlePatchTest {
+    @Test
+    void all_fields_can_be_null() {
+        assertThatNoException().isThrownBy(() -> new ArticlePatch(null, null, null));
+    }
+
+    @Test
+    void if_title_is_blank_then_throw_exception() {
+        assertThatThrownBy(() -> new ArticlePatch(" ", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("title must not be blank.");
+    }
+
+    @Test
+    void if_description_is_blank_then_throw_exception() {
+        assertThatThrownBy(() -> new ArticlePatch(null, " ", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("description must not be blank.");
+    }
+
+    @Test
+    void if_content_is_blank_then_throw_exception() {
+        assertThatThrownBy(() -> new ArticlePatch(null, null, " "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("content must not be blank.");
+    }
+}
@@ -0,0 +1,28 @@
+package sample.shirohoo.realworld.core.model;
+
+import java.time.LocalDateTime;
+
+public final class FixedIdArticle extends Article {
+    private final int id;
+    private final LocalDateTime createdAt;
+
+    public FixedIdArticle(User author, int id) {
+        this(author, id, LocalDateTime.now());
+    }
+
+    public FixedIdArticle(User author, int id, LocalDateTime createdAt) {
+        super(author, "title " + id, "description", "content");
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public Integer getId() {
+        return id;
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,8 +1,19 @@
 package sample.shirohoo.realworld.core.model;
 
-final class FixedIdTag extends Tag {
+public final class FixedIdTag extends Tag {
+    private final int id;
+
+    FixedIdTag() {
+        this.id = 1;
+    }
+
+    public FixedIdTag(int id, String name) {
+        super(name);
+        this.id = id;
+    }
+
     @Override
     public Integer getId() {
-        return 1;
+        return id;
     }
 }
@@ -2,9 +2,22 @@ package sample.shirohoo.realworld.core.model;
 
 import java.util.UUID;
 
-final class FixedIdUser extends User {
+public final class FixedIdUser extends User {
+    private static final UUID FIXED_ID = UUID.fromString("cc05ee33-9c6e-41bc-8f77-8d4dbb83f151");
+
+    private final UUID id;
+
+    FixedIdUser() {
+        this.id = FIXED_ID;
+    }
+
+    public FixedIdUser(UUID id) {
+        super(id + "@realworld.io", id.toString(), "password");
+        this.id = id;
+    }
+
     @Override
     public UUID getId() {
-        return UUID.fromString("cc05ee33-9c6e-41bc-8f77-8d4dbb83f151");
+        return id;
     }
 }
@@ -0,0 +1,47 @@
+package sample.shirohoo.realworld.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PageCursorTest {
+    @Test
+    void encoded_cursor_can_be_decoded() {
+        // given
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2023, 11, 1, 12, 30, 15, 123_456_000), 42);
+
+        // when
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void if_cursor_is_null_or_blank_then_return_null(String cursor) {
+        assertThat(PageCursor.decode(cursor)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "MjAyMy0xMS0wMQ", "bG9yZW0saXBzdW0"})
+    void if_cursor_is_malformed_then_throw_exception(String cursor) {
+        assertThatThrownBy(() -> PageCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid cursor.");
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void if_createdAt_is_null_then_throw_exception() {
+        assertThatThrownBy(() -> new PageCursor(null, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("createdAt must not be null.");
+    }
+}
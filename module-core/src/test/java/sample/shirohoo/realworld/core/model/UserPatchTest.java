@@ -0,0 +1,34 @@
+package sample.shirohoo.realworld.core.model;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class UserPatchTest {
+    @Test
+    void all_fields_can_be_null() {
+        assertThatNoException().isThrownBy(() -> new UserPatch(null, null, null, null, null));
+    }
+
+    @Test
+    void if_email_is_blank_then_throw_exception() {
+        assertThatThrownBy(() -> new UserPatch(" ", null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("email must not be blank.");
+    }
+
+    @Test
+    void if_username_is_blank_then_throw_exception() {
+        assertThatThrownBy(() -> new UserPatch(null, " ", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("username must not be blank.");
+    }
+
+    @Test
+    void if_password_is_blank_then_throw_exception() {
+        assertThatThrownBy(() -> new UserPatch(null, null, " ", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("password must not be blank.");
+    }
+}
@@ -0,0 +1,175 @@
+package sample.shirohoo.realworld.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleTag;
+import sample.shirohoo.realworld.core.model.ArticleTagRepository;
+import sample.shirohoo.realworld.core.model.FixedIdArticle;
+import sample.shirohoo.realworld.core.model.FixedIdUser;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.Tag;
+
+class ArticleTagIndexTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final StubArticleTagRepository articleTagRepository = new StubArticleTagRepository();
+    private final ArticleTagIndex articleTagIndex = new ArticleTagIndex(articleTagRepository, true);
+
+    @Test
+    void pages_are_walked_latest_first_from_one_load() {
+        // given
+        articleTagRepository.tag("java", 1, 3, 5, 7, 9);
+
+        // when
+        List<Integer> firstPage = articleTagIndex.findArticleIds(List.of("java"), null, 0, 2);
+        List<Integer> secondPage = articleTagIndex.findArticleIds(List.of("java"), null, 2, 2);
+        List<Integer> afterCursor =
+                articleTagIndex.findArticleIds(List.of("java"), new PageCursor(createdAt(7), 7), 0, 10);
+
+        // then
+        assertThat(firstPage).containsExactly(9, 7);
+        assertThat(secondPage).containsExactly(5, 3);
+        assertThat(afterCursor).containsExactly(5, 3, 1);
+        assertThat(articleTagRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void pages_follow_creation_time_rather_than_id() {
+        // given
+        articleTagRepository.tag("java", new PageCursor(createdAt(1), 51), new PageCursor(createdAt(2), 2));
+        articleTagRepository.tag("java", new PageCursor(createdAt(3), 52), new PageCursor(createdAt(3), 3));
+
+        // when
+        List<Integer> articleIds = articleTagIndex.findArticleIds(List.of("java"), null, 0, 10);
+        List<Integer> afterCursor =
+                articleTagIndex.findArticleIds(List.of("java"), new PageCursor(createdAt(3), 52), 0, 10);
+
+        // then
+        assertThat(articleIds).containsExactly(52, 3, 2, 51);
+        assertThat(afterCursor).containsExactly(3, 2, 51);
+    }
+
+    @Test
+    void several_tags_are_intersected() {
+        // given
+        articleTagRepository.tag("java", 1, 2, 3, 4, 5, 6);
+        articleTagRepository.tag("spring", 2, 4, 6, 8);
+        articleTagRepository.tag("jpa", 4, 6, 9);
+
+        // when
+        List<Integer> articleIds = articleTagIndex.findArticleIds(List.of("java", "spring", "jpa"), null, 0, 10);
+        List<Integer> unknown = articleTagIndex.findArticleIds(List.of("java", "kotlin"), null, 0, 10);
+
+        // then
+        assertThat(articleIds).containsExactly(6, 4);
+        assertThat(unknown).isEmpty();
+        assertThat(articleTagIndex.footprint().tags()).isEqualTo(3);
+    }
+
+    @Test
+    void tagged_and_deleted_articles_update_loaded_tags() {
+        // given
+        articleTagRepository.tag("java", 1);
+        articleTagIndex.findArticleIds(List.of("java"), null, 0, 10);
+        List<Article> articles =
+                IntStream.rangeClosed(1, 2_000).mapToObj(ArticleTagIndexTest::article).toList();
+
+        // when
+        articles.forEach(article -> articleTagIndex.articleTagged(article, List.of(new Tag("java"))));
+        articleTagIndex.articleDeleted(articles.get(articles.size() - 1));
+        List<Integer> articleIds = articleTagIndex.findArticleIds(List.of("java"), null, 0, 3);
+
+        // then
+        assertThat(articleIds).containsExactly(1_999, 1_998, 1_997);
+        assertThat(articleTagIndex.footprint().entries()).isEqualTo(articles.size() - 1);
+        assertThat(articleTagRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void tagging_discards_only_loads_of_the_same_tag() {
+        // given
+        articleTagRepository.tag("java", 1);
+        articleTagRepository.tag("spring", 1);
+        articleTagRepository.onLoad = tagName -> articleTagIndex.articleTagged(article(2), List.of(new Tag("java")));
+
+        // when
+        articleTagIndex.findArticleIds(List.of("java"), null, 0, 10);
+        articleTagIndex.findArticleIds(List.of("spring"), null, 0, 10);
+        articleTagRepository.onLoad = tagName -> {};
+        articleTagIndex.findArticleIds(List.of("java"), null, 0, 10);
+        articleTagIndex.findArticleIds(List.of("spring"), null, 0, 10);
+
+        // then
+        assertThat(articleTagRepository.loads).isEqualTo(3);
+        assertThat(articleTagIndex.footprint().tags()).isEqualTo(2);
+    }
+
+    @Test
+    void footprint_reports_bytes_per_million_entries() {
+        // given
+        articleTagRepository.tag("java", 1);
+        articleTagIndex.findArticleIds(List.of("java"), null, 0, 10);
+
+        // when
+        ArticleTagIndex.Footprint footprint = articleTagIndex.footprint();
+
+        // then
+        assertThat(footprint.tags()).isEqualTo(1);
+        assertThat(footprint.entries()).isEqualTo(1);
+        assertThat(footprint.bytesPerMillionEntries()).isEqualTo(footprint.bytes() * 1_000_000L);
+    }
+
+    private static Article article(int id) {
+        return new FixedIdArticle(new FixedIdUser(UUID.randomUUID()), id, createdAt(id));
+    }
+
+    private static LocalDateTime createdAt(int id) {
+        return CREATED_AT.plusSeconds(id);
+    }
+
+    private static final class StubArticleTagRepository implements ArticleTagRepository {
+        private final Map<String, List<PageCursor>> positions = new HashMap<>();
+        private Consumer<String> onLoad = tagName -> {};
+        private int loads;
+
+        void tag(String tagName, int... ids) {
+            IntStream.of(ids).forEach(id -> this.tag(tagName, new PageCursor(createdAt(id), id)));
+        }
+
+        void tag(String tagName, PageCursor... articlePositions) {
+            positions.computeIfAbsent(tagName, name -> new ArrayList<>()).addAll(List.of(articlePositions));
+        }
+
+        @Override
+        public List<ArticleTag> saveAll(Collection<ArticleTag> articleTags) {
+            return new ArrayList<>(articleTags);
+        }
+
+        @Override
+        public Set<ArticleTag> findByArticleAndTagIn(Article article, Collection<Tag> tags) {
+            return Set.of();
+        }
+
+        @Override
+        public List<PageCursor> findArticlePositionsByTagName(String tagName) {
+            loads++;
+            List<PageCursor> loaded = List.copyOf(positions.getOrDefault(tagName, List.of()));
+            onLoad.accept(tagName);
+            return loaded;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package sample.shirohoo.realworld.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void put_values_are_always_found() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        // when
+        IntStream.range(0, INSERTIONS).forEach(i -> bloomFilter.put("user" + i + "@realworld.io"));
+
+        // then
+        assertThat(IntStream.range(0, INSERTIONS))
+                .allMatch(i -> bloomFilter.mightContain("user" + i + "@realworld.io"));
+    }
+
+    @Test
+    void false_positive_rate_stays_near_the_target_when_full() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> bloomFilter.put("title " + i));
+
+        // when
+        long falsePositives = IntStream.range(INSERTIONS, INSERTIONS * 11)
+                .filter(i -> bloomFilter.mightContain("title " + i))
+                .count();
+        double observed = (double) falsePositives / (INSERTIONS * 10);
+
+        // then
+        assertThat(observed).isLessThan(FALSE_POSITIVE_RATE * 2);
+        assertThat(bloomFilter.expectedFalsePositiveRate()).isCloseTo(FALSE_POSITIVE_RATE, within(0.005));
+    }
+
+    @Test
+    void empty_filter_contains_nothing() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        // when
+        boolean mightContain = bloomFilter.mightContain("username");
+
+        // then
+        assertThat(mightContain).isFalse();
+        assertThat(bloomFilter.expectedFalsePositiveRate()).isZero();
+    }
+
+    @Test
+    void invalid_sizing_is_rejected() {
+        assertThatThrownBy(() -> new BloomFilter(0, FALSE_POSITIVE_RATE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(INSERTIONS, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package sample.shirohoo.realworld.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleComment;
+import sample.shirohoo.realworld.core.model.ArticleCommentRepository;
+import sample.shirohoo.realworld.core.model.ArticleCounterRepository;
+import sample.shirohoo.realworld.core.model.FixedIdArticle;
+import sample.shirohoo.realworld.core.model.FixedIdUser;
+import sample.shirohoo.realworld.core.model.PageCursor;
+
+class CommentGroupCommitTest {
+    private static final String INVALID = "invalid";
+
+    private final StubArticleCommentRepository articleCommentRepository = new StubArticleCommentRepository();
+    private final StubArticleCounterRepository articleCounterRepository = new StubArticleCounterRepository();
+    private CommentGroupCommit commentGroupCommit;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        commentGroupCommit.close();
+    }
+
+    @Test
+    void concurrent_comments_are_saved_with_one_batch() {
+        // given
+        commentGroupCommit = new CommentGroupCommit(
+                articleCommentRepository, articleCounterRepository, true, Duration.ofSeconds(5), 50, 100);
+        Article article = article();
+
+        // when
+        List<CompletableFuture<ArticleComment>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(commentGroupCommit.submit(comment(article, "comment " + i)));
+        }
+        List<ArticleComment> savedComments = futures.stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertThat(articleCommentRepository.batches).containsExactly(50);
+        assertThat(savedComments).extracting(ArticleComment::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(savedComments).extracting(ArticleComment::getContent).startsWith("comment 0", "comment 1");
+        assertThat(articleCounterRepository.commentsCounts).containsExactly(50);
+    }
+
+    @Test
+    void failed_batch_is_saved_one_by_one() {
+        // given
+        commentGroupCommit = new CommentGroupCommit(
+                articleCommentRepository, articleCounterRepository, true, Duration.ofSeconds(5), 2, 100);
+        Article article = article();
+
+        // when
+        CompletableFuture<ArticleComment> valid = commentGroupCommit.submit(comment(article, "valid"));
+        CompletableFuture<ArticleComment> invalid = commentGroupCommit.submit(comment(article, INVALID));
+
+        // then
+        assertThat(valid.join().getId()).isNotNull();
+        assertThat(invalid).failsWithin(Duration.ofSeconds(5));
+        assertThat(articleCommentRepository.batches).containsExactly(2);
+        assertThat(articleCounterRepository.commentsCounts).containsExactly(1);
+    }
+
+    private static Article article() {
+        return new FixedIdArticle(new FixedIdUser(UUID.randomUUID()), 1);
+    }
+
+    private static ArticleComment comment(Article article, String content) {
+        return new ArticleComment(article, article.getAuthor(), content);
+    }
+
+    private static final class StubArticleCommentRepository implements ArticleCommentRepository {
+        private final AtomicInteger nextId = new AtomicInteger(1);
+        private final List<Integer> batches = new ArrayList<>();
+
+        @Override
+        public ArticleComment save(ArticleComment articleComment) {
+            if (INVALID.equals(articleComment.getContent())) {
+                throw new IllegalArgumentException("invalid comment.");
+            }
+
+            articleComment.setId(nextId.getAndIncrement());
+            return articleComment;
+        }
+
+        @Override
+        public List<ArticleComment> saveAll(List<ArticleComment> articleComments) {
+            batches.add(articleComments.size());
+            return articleComments.stream().map(this::save).toList();
+        }
+
+        @Override
+        public Optional<ArticleComment> findById(int commentId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<ArticleComment> findByArticle(Article article, PageCursor cursor, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void forEachByArticle(Article article, Consumer<ArticleComment> action) {}
+
+        @Override
+        public void delete(ArticleComment articleComment) {}
+    }
+
+    private static final class StubArticleCounterRepository implements ArticleCounterRepository {
+        private final List<Integer> commentsCounts = new ArrayList<>();
+
+        @Override
+        public void addFavoritesCount(Article article, int delta) {}
+
+        @Override
+        public void addCommentsCount(Article article, int delta) {
+            commentsCounts.add(delta);
+        }
+    }
+}
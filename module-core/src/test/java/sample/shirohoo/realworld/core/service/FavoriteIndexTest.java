@@ -0,0 +1,192 @@
+package sample.shirohoo.realworld.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleFavorite;
+import sample.shirohoo.realworld.core.model.ArticleFavoriteRepository;
+import sample.shirohoo.realworld.core.model.FixedIdArticle;
+import sample.shirohoo.realworld.core.model.FixedIdUser;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.User;
+
+class FavoriteIndexTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final StubArticleFavoriteRepository articleFavoriteRepository = new StubArticleFavoriteRepository();
+    private final FavoriteIndex favoriteIndex =
+            new FavoriteIndex(articleFavoriteRepository, true, 100, Duration.ofMinutes(10));
+
+    @Test
+    void favorites_are_loaded_from_repository_once() {
+        // given
+        User user = user();
+        Article favorited = article(user, 1);
+        Article notFavorited = article(user, 2);
+        articleFavoriteRepository.favorites.add(new ArticleFavorite(user, favorited));
+
+        // when
+        boolean isFavorited = favoriteIndex.isFavorited(user, favorited);
+        boolean isNotFavorited = favoriteIndex.isFavorited(user, notFavorited);
+
+        // then
+        assertThat(isFavorited).isTrue();
+        assertThat(isNotFavorited).isFalse();
+        assertThat(articleFavoriteRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void a_page_of_articles_is_checked_with_one_lookup() {
+        // given
+        User user = user();
+        List<Article> articles = List.of(article(user, 1), article(user, 2), article(user, 3));
+        articleFavoriteRepository.favorites.add(new ArticleFavorite(user, articles.get(1)));
+
+        // when
+        Predicate<Article> favorited = favoriteIndex.favoritedBy(user);
+        List<Boolean> flags = articles.stream().map(favorited::test).toList();
+
+        // then
+        assertThat(flags).containsExactly(false, true, false);
+        assertThat(articleFavoriteRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void a_favorite_discards_only_a_racing_load_of_the_same_user() {
+        // given
+        User user = user();
+        User other = user();
+        articleFavoriteRepository.onLoad = loaded -> favoriteIndex.favorited(other, article(other, 1));
+
+        // when
+        favoriteIndex.isFavorited(user, article(user, 1));
+        articleFavoriteRepository.onLoad = loaded -> favoriteIndex.favorited(loaded, article(loaded, 1));
+        favoriteIndex.isFavorited(other, article(other, 1));
+        articleFavoriteRepository.onLoad = loaded -> {};
+        favoriteIndex.isFavorited(user, article(user, 1));
+        favoriteIndex.isFavorited(other, article(other, 1));
+
+        // then
+        assertThat(articleFavoriteRepository.loads).isEqualTo(3);
+    }
+
+    @Test
+    void favorite_unfavorite_and_delete_update_loaded_favorites() {
+        // given
+        User user = user();
+        Article first = article(user, 1);
+        Article second = article(user, 2);
+        favoriteIndex.isFavorited(user, first);
+
+        // when
+        favoriteIndex.favorited(user, first);
+        favoriteIndex.favorited(user, second);
+        boolean afterFavorite = favoriteIndex.isFavorited(user, first);
+        favoriteIndex.unfavorited(user, first);
+        boolean afterUnfavorite = favoriteIndex.isFavorited(user, first);
+        favoriteIndex.articleDeleted(second);
+        boolean afterDelete = favoriteIndex.isFavorited(user, second);
+
+        // then
+        assertThat(afterFavorite).isTrue();
+        assertThat(afterUnfavorite).isFalse();
+        assertThat(afterDelete).isFalse();
+        assertThat(articleFavoriteRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void favorited_articles_are_paged_latest_first() {
+        // given
+        User user = user();
+        for (int id = 1; id <= 5; id++) {
+            articleFavoriteRepository.favorites.add(new ArticleFavorite(user, article(user, id)));
+        }
+
+        // when
+        List<Integer> firstPage = favoriteIndex.findArticleIds(user, null, 0, 2);
+        List<Integer> secondPage = favoriteIndex.findArticleIds(user, null, 2, 2);
+        List<Integer> afterCursor = favoriteIndex.findArticleIds(user, new PageCursor(createdAt(4), 4), 0, 10);
+
+        // then
+        assertThat(firstPage).containsExactly(5, 4);
+        assertThat(secondPage).containsExactly(3, 2);
+        assertThat(afterCursor).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void favorited_articles_are_paged_by_creation_time_rather_than_id() {
+        // given
+        User user = user();
+        Article older = new FixedIdArticle(user, 51, createdAt(1));
+        Article newer = new FixedIdArticle(user, 2, createdAt(2));
+        articleFavoriteRepository.favorites.add(new ArticleFavorite(user, older));
+        articleFavoriteRepository.favorites.add(new ArticleFavorite(user, newer));
+        favoriteIndex.isFavorited(user, older);
+
+        // when
+        favoriteIndex.favorited(user, new FixedIdArticle(user, 3, createdAt(3)));
+        List<Integer> articleIds = favoriteIndex.findArticleIds(user, null, 0, 10);
+        List<Integer> afterCursor = favoriteIndex.findArticleIds(user, PageCursor.of(newer), 0, 10);
+
+        // then
+        assertThat(articleIds).containsExactly(3, 2, 51);
+        assertThat(afterCursor).containsExactly(51);
+    }
+
+    private static User user() {
+        return new FixedIdUser(UUID.randomUUID());
+    }
+
+    private static Article article(User author, int id) {
+        return new FixedIdArticle(author, id, createdAt(id));
+    }
+
+    private static LocalDateTime createdAt(int id) {
+        return CREATED_AT.plusSeconds(id);
+    }
+
+    private static final class StubArticleFavoriteRepository implements ArticleFavoriteRepository {
+        private final List<ArticleFavorite> favorites = new ArrayList<>();
+        private Consumer<User> onLoad = user -> {};
+        private int loads;
+
+        @Override
+        public void saveAndCount(ArticleFavorite articleFavorite) {
+            favorites.add(articleFavorite);
+        }
+
+        @Override
+        public void deleteAndCount(User user, Article article) {
+            favorites.removeIf(favorite -> favorite.getUser().equals(user)
+                    && favorite.getArticle().getId().equals(article.getId()));
+        }
+
+        @Override
+        public boolean existsByUserAndArticle(User user, Article article) {
+            return favorites.stream()
+                    .anyMatch(favorite -> favorite.getUser().equals(user)
+                            && favorite.getArticle().getId().equals(article.getId()));
+        }
+
+        @Override
+        public List<PageCursor> findArticlePositionsByUser(User user) {
+            loads++;
+            List<PageCursor> positions = favorites.stream()
+                    .filter(favorite -> favorite.getUser().equals(user))
+                    .map(favorite -> PageCursor.of(favorite.getArticle()))
+                    .toList();
+            onLoad.accept(user);
+            return positions;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package sample.shirohoo.realworld.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import sample.shirohoo.realworld.core.model.FixedIdUser;
+import sample.shirohoo.realworld.core.model.SocialRepository;
+import sample.shirohoo.realworld.core.model.User;
+import sample.shirohoo.realworld.core.model.UserFollow;
+
+class FollowGraphTest {
+    private final StubSocialRepository socialRepository = new StubSocialRepository();
+    private final FollowGraph followGraph = new FollowGraph(socialRepository, true);
+
+    @Test
+    void followings_are_loaded_from_repository_once() {
+        // given
+        User follower = user();
+        User following = user();
+        socialRepository.follows.add(new UserFollow(follower, following));
+
+        // when
+        boolean isFollowing = followGraph.isFollowing(follower, following);
+        boolean isNotFollowing = followGraph.isFollowing(follower, user());
+
+        // then
+        assertThat(isFollowing).isTrue();
+        assertThat(isNotFollowing).isFalse();
+        assertThat(socialRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void follow_and_unfollow_update_loaded_followings() {
+        // given
+        User follower = user();
+        User following = user();
+        followGraph.isFollowing(follower, following);
+
+        // when
+        followGraph.followed(follower, following);
+        boolean afterFollow = followGraph.isFollowing(follower, following);
+        followGraph.unfollowed(follower, following);
+        boolean afterUnfollow = followGraph.isFollowing(follower, following);
+
+        // then
+        assertThat(afterFollow).isTrue();
+        assertThat(afterUnfollow).isFalse();
+        assertThat(socialRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void a_load_is_kept_when_another_user_follows_meanwhile() {
+        // given
+        User follower = user();
+        User other = user();
+        User following = user();
+        socialRepository.follows.add(new UserFollow(follower, following));
+        socialRepository.onLoad = () -> followGraph.followed(other, following);
+
+        // when
+        followGraph.isFollowing(follower, following);
+        socialRepository.onLoad = () -> {};
+        boolean isFollowing = followGraph.isFollowing(follower, following);
+
+        // then
+        assertThat(isFollowing).isTrue();
+        assertThat(socialRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void a_load_is_dropped_when_the_same_user_follows_meanwhile() {
+        // given
+        User follower = user();
+        User following = user();
+        socialRepository.onLoad = () -> {
+            socialRepository.follows.add(new UserFollow(follower, following));
+            followGraph.followed(follower, following);
+        };
+
+        // when
+        followGraph.isFollowing(follower, following);
+        socialRepository.onLoad = () -> {};
+        boolean isFollowing = followGraph.isFollowing(follower, following);
+
+        // then
+        assertThat(isFollowing).isTrue();
+        assertThat(socialRepository.loads).isEqualTo(2);
+    }
+
+    @Test
+    void following_among_candidates_is_resolved_with_one_load() {
+        // given
+        User follower = user();
+        User following = user();
+        User notFollowing = user();
+        socialRepository.follows.add(new UserFollow(follower, following));
+
+        // when
+        Set<User> followingAmong = followGraph.followingAmong(follower, List.of(following, notFollowing));
+
+        // then
+        assertThat(followingAmong).containsExactly(following);
+        assertThat(socialRepository.loads).isEqualTo(1);
+    }
+
+    @Test
+    void high_degree_followings_are_still_found_after_switching_representation() {
+        // given
+        User follower = user();
+        List<User> followings = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            followings.add(user());
+        }
+        followGraph.isFollowing(follower, follower);
+
+        // when
+        followings.forEach(following -> followGraph.followed(follower, following));
+        followGraph.unfollowed(follower, followings.get(0));
+
+        // then
+        assertThat(followGraph.isFollowing(follower, followings.get(0))).isFalse();
+        assertThat(followings.subList(1, followings.size()))
+                .allMatch(following -> followGraph.isFollowing(follower, following));
+        assertThat(followGraph.footprint().edges()).isEqualTo(followings.size() - 1);
+    }
+
+    @Test
+    void footprint_reports_bytes_per_million_edges() {
+        // given
+        User follower = user();
+        User following = user();
+        followGraph.isFollowing(follower, following);
+        followGraph.followed(follower, following);
+
+        // when
+        FollowGraph.Footprint footprint = followGraph.footprint();
+
+        // then
+        assertThat(footprint.users()).isEqualTo(2);
+        assertThat(footprint.edges()).isEqualTo(1);
+        assertThat(footprint.bytesPerMillionEdges()).isEqualTo(footprint.bytes() * 1_000_000L);
+    }
+
+    private static User user() {
+        return new FixedIdUser(UUID.randomUUID());
+    }
+
+    private static final class StubSocialRepository implements SocialRepository {
+        private final List<UserFollow> follows = new ArrayList<>();
+        private int loads;
+        private Runnable onLoad = () -> {};
+
+        @Override
+        public void save(UserFollow userFollow) {
+            follows.add(userFollow);
+        }
+
+        @Override
+        public List<UserFollow> findByFollower(User follower) {
+            loads++;
+            List<UserFollow> loaded = follows.stream()
+                    .filter(userFollow -> userFollow.getFollower().equals(follower))
+                    .toList();
+            onLoad.run();
+            return loaded;
+        }
+
+        @Override
+        public Set<User> findFollowingAmong(User follower, Collection<User> candidates) {
+            return this.findByFollower(follower).stream()
+                    .map(UserFollow::getFollowing)
+                    .filter(candidates::contains)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public void deleteByFollowerAndFollowing(User follower, User following) {
+            follows.removeIf(userFollow -> userFollow.getFollower().equals(follower)
+                    && userFollow.getFollowing().equals(following));
+        }
+
+        @Override
+        public boolean existsByFollowerAndFollowing(User follower, User following) {
+            return follows.stream()
+                    .anyMatch(userFollow -> userFollow.getFollower().equals(follower)
+                            && userFollow.getFollowing().equals(following));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package sample.shirohoo.realworld.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import sample.shirohoo.realworld.core.model.FixedIdTag;
+import sample.shirohoo.realworld.core.model.Tag;
+import sample.shirohoo.realworld.core.model.TagRepository;
+
+class TagDictionaryTest {
+    private final StubTagRepository tagRepository = new StubTagRepository();
+    private final TagDictionary tagDictionary = new TagDictionary(tagRepository, true);
+
+    @Test
+    void known_tags_are_resolved_without_repository() {
+        // given
+        tagRepository.tags.add(new FixedIdTag(1, "java"));
+        tagDictionary.reload();
+
+        // when
+        Set<Tag> tags = tagDictionary.resolveOrCreate(List.of("java"));
+
+        // then
+        assertThat(tags).extracting(Tag::getId).containsExactly(1);
+        assertThat(tagRepository.resolvedNames).isEmpty();
+    }
+
+    @Test
+    void only_unknown_tags_are_created_and_then_kept() {
+        // given
+        tagRepository.tags.add(new FixedIdTag(1, "java"));
+        tagDictionary.reload();
+
+        // when
+        Set<Tag> created = tagDictionary.resolveOrCreate(List.of("java", "spring"));
+        Set<Tag> resolved = tagDictionary.resolveOrCreate(List.of("spring"));
+
+        // then
+        assertThat(created).extracting(Tag::getName).containsExactlyInAnyOrder("java", "spring");
+        assertThat(resolved).extracting(Tag::getName).containsExactly("spring");
+        assertThat(tagRepository.resolvedNames).containsExactly("spring");
+        assertThat(tagDictionary.getTags()).extracting(Tag::getName).containsExactly("java", "spring");
+    }
+
+    @Test
+    void tags_are_the_same_instance_until_a_tag_is_added() {
+        // given
+        tagRepository.tags.add(new FixedIdTag(1, "java"));
+        tagDictionary.reload();
+
+        // when
+        List<Tag> first = tagDictionary.getTags();
+        tagDictionary.resolveOrCreate(List.of("java"));
+        List<Tag> unchanged = tagDictionary.getTags();
+        tagDictionary.resolveOrCreate(List.of("spring"));
+        List<Tag> changed = tagDictionary.getTags();
+
+        // then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed).isNotSameAs(first).hasSize(2);
+    }
+
+    private static final class StubTagRepository implements TagRepository {
+        private final List<Tag> tags = new ArrayList<>();
+        private final List<String> resolvedNames = new ArrayList<>();
+
+        @Override
+        public List<Tag> saveAll(Collection<Tag> tags) {
+            this.tags.addAll(tags);
+            return List.copyOf(tags);
+        }
+
+        @Override
+        public Set<Tag> findByNameIn(Collection<String> names) {
+            return tags.stream().filter(tag -> names.contains(tag.getName())).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<Tag> resolveOrCreate(Collection<String> names) {
+            resolvedNames.addAll(names);
+
+            Set<Tag> resolved = new HashSet<>(this.findByNameIn(names));
+            for (String name : new HashSet<>(names)) {
+                if (resolved.stream().noneMatch(tag -> tag.getName().equals(name))) {
+                    Tag created = new FixedIdTag(tags.size() + 1, name);
+                    tags.add(created);
+                    resolved.add(created);
+                }
+            }
+            return resolved;
+        }
+
+        @Override
+        public List<Tag> findAll() {
+            return List.copyOf(tags);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package sample.shirohoo.realworld.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+class SchedulingConfiguration {}
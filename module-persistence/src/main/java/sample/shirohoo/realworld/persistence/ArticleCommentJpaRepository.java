@@ -1,14 +1,72 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleComment;
 
 interface ArticleCommentJpaRepository extends JpaRepository<ArticleComment, Integer> {
-    List<ArticleComment> findByArticleOrderByCreatedAtDesc(Article article);
+    @Query(
+            """
+            select articleComment from ArticleComment articleComment
+            join fetch articleComment.author
+            where articleComment.article = :article
+            order by articleComment.createdAt desc, articleComment.id desc
+            """)
+    List<ArticleComment> findPageByArticle(@Param("article") Article article, Pageable pageable);
+
+    @Query(
+            """
+            select articleComment from ArticleComment articleComment
+            join fetch articleComment.author
+            where articleComment.article = :article
+              and (articleComment.createdAt < :createdAt
+                or (articleComment.createdAt = :createdAt and articleComment.id < :commentId))
+            order by articleComment.createdAt desc, articleComment.id desc
+            """)
+    List<ArticleComment> findPageByArticleBefore(
+            @Param("article") Article article,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("commentId") int commentId,
+            Pageable pageable);
+
+    // Note: With MySQL Connector/J the fetch size only takes effect with useCursorFetch=true.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            """
+            select articleComment from ArticleComment articleComment
+            join fetch articleComment.author
+            where articleComment.article = :article
+            order by articleComment.createdAt desc, articleComment.id desc
+            """)
+    Stream<ArticleComment> streamByArticle(@Param("article") Article article);
+
+    @Query("select articleComment.id from ArticleComment articleComment where articleComment.article.id = :articleId")
+    List<Integer> findIdsByArticleId(@Param("articleId") int articleId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ArticleComment articleComment where articleComment.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
 
-    void deleteByArticle(Article article);
+    @Modifying
+    @Query("delete from ArticleComment articleComment where articleComment.article = :article")
+    void deleteByArticle(@Param("article") Article article);
 }
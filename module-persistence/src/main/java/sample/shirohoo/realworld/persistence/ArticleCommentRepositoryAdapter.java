@@ -2,7 +2,13 @@ package sample.shirohoo.realworld.persistence;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +17,12 @@ import lombok.RequiredArgsConstructor;
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleComment;
 import sample.shirohoo.realworld.core.model.ArticleCommentRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
 
 @Repository
 @RequiredArgsConstructor
 class ArticleCommentRepositoryAdapter implements ArticleCommentRepository {
+    private final EntityManager entityManager;
     private final ArticleCommentJpaRepository articleCommentJpaRepository;
 
     @Override
@@ -22,14 +30,38 @@ class ArticleCommentRepositoryAdapter implements ArticleCommentRepository {
         return articleCommentJpaRepository.save(articleComment);
     }
 
+    @Override
+    @Transactional
+    public List<ArticleComment> saveAll(List<ArticleComment> articleComments) {
+        return articleCommentJpaRepository.saveAll(articleComments);
+    }
+
     @Override
     public Optional<ArticleComment> findById(int commentId) {
         return articleCommentJpaRepository.findById(commentId);
     }
 
     @Override
-    public List<ArticleComment> findByArticleOrderByCreatedAtDesc(Article article) {
-        return articleCommentJpaRepository.findByArticleOrderByCreatedAtDesc(article);
+    public List<ArticleComment> findByArticle(Article article, PageCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return articleCommentJpaRepository.findPageByArticle(article, pageable);
+        }
+
+        return articleCommentJpaRepository.findPageByArticleBefore(article, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByArticle(Article article, Consumer<ArticleComment> action) {
+        try (Stream<ArticleComment> articleComments = articleCommentJpaRepository.streamByArticle(article)) {
+            articleComments.forEach(articleComment -> {
+                action.accept(articleComment);
+
+                // Note: Otherwise the persistence context keeps every comment read so far.
+                entityManager.detach(articleComment);
+            });
+        }
     }
 
     @Override
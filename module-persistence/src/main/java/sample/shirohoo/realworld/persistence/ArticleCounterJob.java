@@ -0,0 +1,29 @@
+package sample.shirohoo.realworld.persistence;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ArticleCounterJob {
+    private final ArticleCounterRepositoryAdapter articleCounterRepositoryAdapter;
+
+    @Scheduled(fixedDelayString = "${realworld.article.counter.fold-interval:PT5S}")
+    public void foldStripes() {
+        articleCounterRepositoryAdapter.foldStripes();
+    }
+
+    @Scheduled(
+            initialDelayString = "${realworld.article.counter.reconcile-interval:PT1H}",
+            fixedDelayString = "${realworld.article.counter.reconcile-interval:PT1H}")
+    public void reconcile() {
+        int repaired = articleCounterRepositoryAdapter.reconcile();
+        if (repaired > 0) {
+            log.warn("repaired {} drifted article counters.", repaired);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package sample.shirohoo.realworld.persistence;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleCounterRepository;
+import sample.shirohoo.realworld.core.model.ArticleCounterStripe;
+import sample.shirohoo.realworld.persistence.ArticleCounterStripeJpaRepository.PendingCounts;
+
+@Repository
+class ArticleCounterRepositoryAdapter implements ArticleCounterRepository {
+    private final ArticleJpaRepository articleJpaRepository;
+    private final ArticleCounterStripeJpaRepository articleCounterStripeJpaRepository;
+    private final int stripes;
+    private final int stripeThreshold;
+
+    ArticleCounterRepositoryAdapter(
+            ArticleJpaRepository articleJpaRepository,
+            ArticleCounterStripeJpaRepository articleCounterStripeJpaRepository,
+            @Value("${realworld.article.counter.stripes:16}") int stripes,
+            @Value("${realworld.article.counter.stripe-threshold:1000}") int stripeThreshold) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be greater than 0.");
+        }
+
+        this.articleJpaRepository = articleJpaRepository;
+        this.articleCounterStripeJpaRepository = articleCounterStripeJpaRepository;
+        this.stripes = stripes;
+        this.stripeThreshold = stripeThreshold;
+    }
+
+    @Override
+    public void addFavoritesCount(Article article, int delta) {
+        if (article.getFavoritesCount() < stripeThreshold) {
+            articleJpaRepository.addCounts(article.getId(), delta, 0);
+            return;
+        }
+
+        this.addToStripe(article, delta, 0);
+    }
+
+    @Override
+    public void addCommentsCount(Article article, int delta) {
+        if (article.getCommentsCount() < stripeThreshold) {
+            articleJpaRepository.addCounts(article.getId(), 0, delta);
+            return;
+        }
+
+        this.addToStripe(article, 0, delta);
+    }
+
+    /** Move the changes accumulated in counter stripes into the counters of the articles. */
+    @Transactional
+    public void foldStripes() {
+        for (PendingCounts pending : articleCounterStripeJpaRepository.findPendingCounts()) {
+            articleJpaRepository.addCounts(
+                    pending.getArticleId(), pending.getFavoritesCount(), pending.getCommentsCount());
+            articleCounterStripeJpaRepository.subtractCounts(
+                    pending.getId(), pending.getFavoritesCount(), pending.getCommentsCount());
+        }
+    }
+
+    /**
+     * Recount the counters of articles whose counters drifted from the favorites and comments.
+     *
+     * @return Returns the number of repaired counters
+     */
+    @Transactional
+    public int reconcile() {
+        return articleJpaRepository.reconcileFavoritesCounts() + articleJpaRepository.reconcileCommentsCounts();
+    }
+
+    private void addToStripe(Article article, int favoritesDelta, int commentsDelta) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        if (articleCounterStripeJpaRepository.addCounts(article, stripe, favoritesDelta, commentsDelta) > 0) {
+            return;
+        }
+
+        try {
+            articleCounterStripeJpaRepository.save(
+                    new ArticleCounterStripe(article, stripe, favoritesDelta, commentsDelta));
+        } catch (DataIntegrityViolationException e) {
+            // Note: Another request created the same stripe in the meantime, so add to that one.
+            articleCounterStripeJpaRepository.addCounts(article, stripe, favoritesDelta, commentsDelta);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package sample.shirohoo.realworld.persistence;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleCounterStripe;
+
+interface ArticleCounterStripeJpaRepository extends JpaRepository<ArticleCounterStripe, Integer> {
+    @Modifying
+    @Transactional
+    @Query(
+            """
+            update ArticleCounterStripe counterStripe
+            set counterStripe.favoritesCount = counterStripe.favoritesCount + :favoritesDelta,
+                counterStripe.commentsCount = counterStripe.commentsCount + :commentsDelta
+            where counterStripe.article = :article and counterStripe.stripe = :stripe
+            """)
+    int addCounts(
+            @Param("article") Article article,
+            @Param("stripe") int stripe,
+            @Param("favoritesDelta") int favoritesDelta,
+            @Param("commentsDelta") int commentsDelta);
+
+    @Query(
+            """
+            select counterStripe.id as id, counterStripe.article.id as articleId,
+                counterStripe.favoritesCount as favoritesCount, counterStripe.commentsCount as commentsCount
+            from ArticleCounterStripe counterStripe
+            where counterStripe.favoritesCount <> 0 or counterStripe.commentsCount <> 0
+            """)
+    List<PendingCounts> findPendingCounts();
+
+    @Modifying
+    @Transactional
+    @Query(
+            """
+            update ArticleCounterStripe counterStripe
+            set counterStripe.favoritesCount = counterStripe.favoritesCount - :favoritesCount,
+                counterStripe.commentsCount = counterStripe.commentsCount - :commentsCount
+            where counterStripe.id = :id
+            """)
+    void subtractCounts(
+            @Param("id") int id, @Param("favoritesCount") int favoritesCount, @Param("commentsCount") int commentsCount);
+
+    @Modifying
+    @Query("delete from ArticleCounterStripe counterStripe where counterStripe.article = :article")
+    void deleteByArticle(@Param("article") Article article);
+
+    interface PendingCounts {
+        Integer getId();
+
+        Integer getArticleId();
+
+        Integer getFavoritesCount();
+
+        Integer getCommentsCount();
+    }
+}
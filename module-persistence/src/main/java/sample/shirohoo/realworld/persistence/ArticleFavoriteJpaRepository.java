@@ -1,15 +1,43 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleFavorite;
+import sample.shirohoo.realworld.core.model.PageCursor;
 import sample.shirohoo.realworld.core.model.User;
 
 interface ArticleFavoriteJpaRepository extends JpaRepository<ArticleFavorite, Integer> {
-    void deleteByUserAndArticle(User user, Article article);
+    long deleteByUserAndArticle(User user, Article article);
 
     boolean existsByUserAndArticle(User user, Article article);
 
-    int countByArticle(Article article);
+    @Query(
+            """
+            select articleFavorite.article.id from ArticleFavorite articleFavorite
+            where articleFavorite.user = :user and articleFavorite.article in :articles
+            """)
+    Set<Integer> findArticleIdsByUserAndArticleIn(
+            @Param("user") User user, @Param("articles") Collection<Article> articles);
+
+    // Note: Articles are joined by primary key only for their creation time, no article is loaded.
+    @Query(
+            """
+            select new sample.shirohoo.realworld.core.model.PageCursor(article.createdAt, article.id)
+            from ArticleFavorite articleFavorite
+            join articleFavorite.article article
+            where articleFavorite.user = :user
+            """)
+    List<PageCursor> findArticlePositionsByUser(@Param("user") User user);
+
+    @Modifying
+    @Query("delete from ArticleFavorite articleFavorite where articleFavorite.article = :article")
+    void deleteByArticle(@Param("article") Article article);
 }
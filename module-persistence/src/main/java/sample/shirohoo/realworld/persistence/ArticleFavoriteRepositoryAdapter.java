@@ -1,33 +1,48 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.util.List;
+
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
 import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.ArticleCounterRepository;
 import sample.shirohoo.realworld.core.model.ArticleFavorite;
 import sample.shirohoo.realworld.core.model.ArticleFavoriteRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
 import sample.shirohoo.realworld.core.model.User;
 
 @Repository
 @RequiredArgsConstructor
 class ArticleFavoriteRepositoryAdapter implements ArticleFavoriteRepository {
     private final ArticleFavoriteJpaRepository articleFavoriteJpaRepository;
+    private final ArticleCounterRepository articleCounterRepository;
 
     @Override
-    public void save(ArticleFavorite articleFavorite) {
+    @Transactional
+    public void saveAndCount(ArticleFavorite articleFavorite) {
         articleFavoriteJpaRepository.save(articleFavorite);
+        articleCounterRepository.addFavoritesCount(articleFavorite.getArticle(), 1);
     }
 
     @Override
     @Transactional
-    public void deleteByUserAndArticle(User user, Article article) {
-        articleFavoriteJpaRepository.deleteByUserAndArticle(user, article);
+    public void deleteAndCount(User user, Article article) {
+        long deleted = articleFavoriteJpaRepository.deleteByUserAndArticle(user, article);
+        if (deleted > 0) {
+            articleCounterRepository.addFavoritesCount(article, (int) -deleted);
+        }
     }
 
     @Override
     public boolean existsByUserAndArticle(User user, Article article) {
         return articleFavoriteJpaRepository.existsByUserAndArticle(user, article);
     }
+
+    @Override
+    public List<PageCursor> findArticlePositionsByUser(User user) {
+        return articleFavoriteJpaRepository.findArticlePositionsByUser(user);
+    }
 }
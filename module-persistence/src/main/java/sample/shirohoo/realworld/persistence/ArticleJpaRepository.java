@@ -1,24 +1,142 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.User;
 
-interface ArticleJpaRepository extends JpaRepository<Article, Integer>, JpaSpecificationExecutor<Article> {
+interface ArticleJpaRepository
+        extends JpaRepository<Article, Integer>, JpaSpecificationExecutor<Article>, ArticleSliceRepository {
     Optional<Article> findBySlug(String slug);
 
-    @SuppressWarnings("NullableProblems")
-    Page<Article> findAll(Specification<Article> spec, Pageable pageable);
+    @Query("select article from Article article join fetch article.author where article.id in :ids")
+    List<Article> findWithAuthorByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Note: Deleted articles still hold their title until they are purged.
+    @Query(value = "select count(*) from article where title = :title", nativeQuery = true)
+    long countIncludingDeletedByTitle(@Param("title") String title);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "select title from article", nativeQuery = true)
+    Stream<String> streamIncludingDeletedTitles();
+
+    List<Article> findByAuthor(User author, Pageable pageable);
+
+    @Query(
+            """
+            select article from UserFollow userFollow
+            join Article article on article.author = userFollow.following
+            join fetch article.author
+            where userFollow.follower = :follower
+            order by article.createdAt desc, article.id desc
+            """)
+    Slice<Article> findFeed(@Param("follower") User follower, Pageable pageable);
+
+    @Query(
+            """
+            select article from UserFollow userFollow
+            join Article article on article.author = userFollow.following
+            join fetch article.author
+            where userFollow.follower = :follower
+              and (article.createdAt < :createdAt or (article.createdAt = :createdAt and article.id < :articleId))
+            order by article.createdAt desc, article.id desc
+            """)
+    Slice<Article> findFeedBefore(
+            @Param("follower") User follower,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("articleId") int articleId,
+            Pageable pageable);
+
+    @Modifying
+    @Query(value = "update article set deleted_at = :deletedAt where id = :articleId", nativeQuery = true)
+    void markDeleted(@Param("articleId") int articleId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query(value = "select id from article where deleted_at is not null", nativeQuery = true)
+    List<Integer> findDeletedIds();
+
+    @Modifying
+    @Transactional
+    @Query(value = "delete from article where id = :articleId", nativeQuery = true)
+    void deleteByArticleId(@Param("articleId") int articleId);
+
+    @Modifying
+    @Transactional
+    @Query(
+            value =
+                    """
+                    update article
+                    set favorites_count = favorites_count + :favoritesDelta,
+                        comments_count = comments_count + :commentsDelta
+                    where id = :articleId
+                    """,
+            nativeQuery = true)
+    void addCounts(
+            @Param("articleId") int articleId,
+            @Param("favoritesDelta") int favoritesDelta,
+            @Param("commentsDelta") int commentsDelta);
 
-    Page<Article> findByAuthorInOrderByCreatedAtDesc(Collection<User> authors, Pageable pageable);
+    /**
+     * Repair favorites counters that drifted from the favorites, taking changes that are still
+     * pending in counter stripes into account.
+     *
+     * @return Returns the number of repaired articles
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value =
+                    """
+                    update article
+                    set favorites_count =
+                        (select count(*) from article_favorite where article_favorite.article_id = article.id)
+                        - (select coalesce(sum(article_counter_stripe.favorites_count), 0) from article_counter_stripe
+                           where article_counter_stripe.article_id = article.id)
+                    where favorites_count <>
+                        (select count(*) from article_favorite where article_favorite.article_id = article.id)
+                        - (select coalesce(sum(article_counter_stripe.favorites_count), 0) from article_counter_stripe
+                           where article_counter_stripe.article_id = article.id)
+                    """,
+            nativeQuery = true)
+    int reconcileFavoritesCounts();
 
-    boolean existsByTitle(String title);
+    /**
+     * Repair comments counters that drifted from the comments, taking changes that are still pending
+     * in counter stripes into account.
+     *
+     * @return Returns the number of repaired articles
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value =
+                    """
+                    update article
+                    set comments_count =
+                        (select count(*) from article_comment where article_comment.article_id = article.id)
+                        - (select coalesce(sum(article_counter_stripe.comments_count), 0) from article_counter_stripe
+                           where article_counter_stripe.article_id = article.id)
+                    where comments_count <>
+                        (select count(*) from article_comment where article_comment.article_id = article.id)
+                        - (select coalesce(sum(article_counter_stripe.comments_count), 0) from article_counter_stripe
+                           where article_counter_stripe.article_id = article.id)
+                    """,
+            nativeQuery = true)
+    int reconcileCommentsCounts();
 }
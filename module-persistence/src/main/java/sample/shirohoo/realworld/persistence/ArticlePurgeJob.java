@@ -0,0 +1,76 @@
+package sample.shirohoo.realworld.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import sample.shirohoo.realworld.core.model.Article;
+
+/**
+ * Purges deleted articles with many comments in chunks, so that deleting them does not hold locks on
+ * the comments for the whole request.
+ */
+@Slf4j
+@Component
+class ArticlePurgeJob {
+    private final ArticleJpaRepository articleJpaRepository;
+    private final ArticleCommentJpaRepository articleCommentJpaRepository;
+    private final int commentsThreshold;
+    private final int chunkSize;
+
+    ArticlePurgeJob(
+            ArticleJpaRepository articleJpaRepository,
+            ArticleCommentJpaRepository articleCommentJpaRepository,
+            @Value("${realworld.article.purge.comments-threshold:5000}") int commentsThreshold,
+            @Value("${realworld.article.purge.chunk-size:1000}") int chunkSize) {
+        this.articleJpaRepository = articleJpaRepository;
+        this.articleCommentJpaRepository = articleCommentJpaRepository;
+        this.commentsThreshold = commentsThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Hide the article until it is purged, if it has too many comments to delete them at once. Must
+     * be called in the deleting transaction.
+     *
+     * @param article article being deleted
+     * @return Returns true if the article is left to this job
+     */
+    boolean deferIfLarge(Article article) {
+        // Note: The stored counter may lag behind by unfolded stripes, which does not matter for a threshold.
+        if (article.getCommentsCount() < commentsThreshold) {
+            return false;
+        }
+
+        articleJpaRepository.markDeleted(article.getId(), LocalDateTime.now());
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${realworld.article.purge.interval:PT10S}")
+    public void purge() {
+        for (int articleId : articleJpaRepository.findDeletedIds()) {
+            int purged = this.purgeComments(articleId);
+            articleJpaRepository.deleteByArticleId(articleId);
+            log.debug("purged article {} with {} comments.", articleId, purged);
+        }
+    }
+
+    private int purgeComments(int articleId) {
+        int purged = 0;
+
+        // Note: Every chunk is deleted in its own transaction, so locks are only held for one chunk.
+        List<Integer> ids = articleCommentJpaRepository.findIdsByArticleId(articleId, PageRequest.of(0, chunkSize));
+        while (!ids.isEmpty()) {
+            purged += articleCommentJpaRepository.deleteByIdIn(ids);
+            ids = articleCommentJpaRepository.findIdsByArticleId(articleId, PageRequest.of(0, chunkSize));
+        }
+
+        return purged;
+    }
+}
@@ -1,11 +1,22 @@
 package sample.shirohoo.realworld.persistence;
 
+import static java.util.stream.Collectors.*;
+
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,15 +28,23 @@ import sample.shirohoo.realworld.core.model.ArticleFacets;
 import sample.shirohoo.realworld.core.model.ArticleInfo;
 import sample.shirohoo.realworld.core.model.ArticleRepository;
 import sample.shirohoo.realworld.core.model.ArticleTag;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.PageSlice;
+import sample.shirohoo.realworld.core.model.Tag;
 import sample.shirohoo.realworld.core.model.User;
 
 @Repository
 @RequiredArgsConstructor
 class ArticleRepositoryAdapter implements ArticleRepository {
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final ArticleJpaRepository articleJpaRepository;
     private final ArticleTagJpaRepository articleTagJpaRepository;
     private final ArticleCommentJpaRepository articleCommentJpaRepository;
     private final ArticleFavoriteJpaRepository articleFavoriteJpaRepository;
+    private final ArticleCounterStripeJpaRepository articleCounterStripeJpaRepository;
+    private final TimelineEntryJpaRepository timelineEntryJpaRepository;
+    private final ArticlePurgeJob articlePurgeJob;
 
     @Override
     public Article save(Article article) {
@@ -33,14 +52,29 @@ class ArticleRepositoryAdapter implements ArticleRepository {
     }
 
     @Override
-    public List<Article> findAll(ArticleFacets facets) {
-        Specification<Article> spec = Specification.where(ArticleSpecifications.hasAuthorName(facets.author()))
-                .or(ArticleSpecifications.hasTagName(facets.tag()))
-                .or(ArticleSpecifications.hasFavoritedUsername(facets.favorited()));
+    @Transactional
+    public Set<ArticleTag> publish(Article article, Collection<Tag> tags) {
+        Article savedArticle = articleJpaRepository.save(article);
+
+        // Note: Article and article tags take ids from pooled sequences, so both are inserted in batches on commit.
+        List<ArticleTag> articleTags = tags.stream()
+                .map(tag -> new ArticleTag(savedArticle, tag))
+                .toList();
+
+        return new HashSet<>(articleTagJpaRepository.saveAll(articleTags));
+    }
+
+    @Override
+    public PageSlice<Article> findAll(ArticleFacets facets) {
+        Specification<Article> spec = hasFacets(facets).and(ArticleSpecifications.isBefore(facets.cursor()));
+        Slice<Article> slice = articleJpaRepository.findSlice(spec, pageable(facets));
 
-        PageRequest pageable = PageRequest.of(facets.page(), facets.size());
+        return new PageSlice<>(slice.getContent(), slice.hasNext());
+    }
 
-        return articleJpaRepository.findAll(spec, pageable).getContent();
+    @Override
+    public int count(ArticleFacets facets) {
+        return Math.toIntExact(articleJpaRepository.count(hasFacets(facets)));
     }
 
     @Override
@@ -49,9 +83,42 @@ class ArticleRepositoryAdapter implements ArticleRepository {
     }
 
     @Override
-    public List<Article> findByAuthorInOrderByCreatedAtDesc(Collection<User> authors, ArticleFacets facets) {
+    public List<Article> findByIdIn(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+
+        return articleJpaRepository.findWithAuthorByIdIn(ids).stream()
+                .sorted(Comparator.comparing(article -> positions.get(article.getId())))
+                .toList();
+    }
+
+    @Override
+    public List<Article> findFeed(User follower, PageCursor cursor, int limit) {
+        return this.findFeed(follower, cursor, PageRequest.of(0, limit)).getContent();
+    }
+
+    @Override
+    public PageSlice<Article> findFeed(User follower, ArticleFacets facets) {
+        // Note: Without a cursor the rows before the page are skipped by the database, not read and dropped.
+        int page = facets.cursor() == null ? facets.page() : 0;
+        Slice<Article> slice = this.findFeed(follower, facets.cursor(), PageRequest.of(page, facets.size()));
+
+        return new PageSlice<>(slice.getContent(), slice.hasNext());
+    }
+
+    @Override
+    public List<Article> findByAuthorIn(Collection<User> authors, PageCursor cursor, int limit) {
+        Specification<Article> spec = Specification.where(ArticleSpecifications.hasAuthorIn(authors))
+                .and(ArticleSpecifications.isBefore(cursor));
+
         return articleJpaRepository
-                .findByAuthorInOrderByCreatedAtDesc(authors, PageRequest.of(facets.page(), facets.size()))
+                .findSlice(spec, PageRequest.of(0, limit, LATEST_FIRST))
                 .getContent();
     }
 
@@ -59,31 +126,87 @@ class ArticleRepositoryAdapter implements ArticleRepository {
     @Transactional(readOnly = true)
     public ArticleInfo findArticleInfoByAnonymous(Article article) {
         Set<ArticleTag> articleTags = articleTagJpaRepository.findByArticle(article);
-        int totalFavorites = articleFavoriteJpaRepository.countByArticle(article);
 
-        return ArticleInfo.unauthenticated(article, articleTags, totalFavorites);
+        return ArticleInfo.unauthenticated(article, articleTags, article.getFavoritesCount());
     }
 
     @Override
     @Transactional(readOnly = true)
     public ArticleInfo findArticleInfoByUser(User requester, Article article) {
         Set<ArticleTag> articleTags = articleTagJpaRepository.findByArticle(article);
-        int totalFavorites = articleFavoriteJpaRepository.countByArticle(article);
         boolean favorited = articleFavoriteJpaRepository.existsByUserAndArticle(requester, article);
 
-        return new ArticleInfo(article, articleTags, totalFavorites, favorited);
+        return new ArticleInfo(article, articleTags, article.getFavoritesCount(), favorited);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArticleInfo> findArticleInfos(User requester, List<Article> articles) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Article, Set<ArticleTag>> articleTags = articleTagJpaRepository.findByArticleIn(articles).stream()
+                .collect(groupingBy(ArticleTag::getArticle, toSet()));
+        Set<Integer> favoritedArticleIds = requester == null
+                ? Set.of()
+                : articleFavoriteJpaRepository.findArticleIdsByUserAndArticleIn(requester, articles);
+
+        return articles.stream()
+                .map(article -> new ArticleInfo(
+                        article,
+                        articleTags.getOrDefault(article, Set.of()),
+                        article.getFavoritesCount(),
+                        favoritedArticleIds.contains(article.getId())))
+                .toList();
     }
 
     @Override
     @Transactional
     public void delete(Article article) {
         articleTagJpaRepository.deleteByArticle(article);
+        articleFavoriteJpaRepository.deleteByArticle(article);
+        articleCounterStripeJpaRepository.deleteByArticle(article);
+        timelineEntryJpaRepository.deleteByArticle(article);
+
+        if (articlePurgeJob.deferIfLarge(article)) {
+            return;
+        }
+
         articleCommentJpaRepository.deleteByArticle(article);
-        articleJpaRepository.delete(article);
+        articleJpaRepository.deleteByArticleId(article.getId());
     }
 
     @Override
     public boolean existsByTitle(String title) {
-        return articleJpaRepository.existsByTitle(title);
+        return articleJpaRepository.countIncludingDeletedByTitle(title) > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTitle(Consumer<String> action) {
+        try (Stream<String> titles = articleJpaRepository.streamIncludingDeletedTitles()) {
+            titles.forEach(action);
+        }
+    }
+
+    private static Specification<Article> hasFacets(ArticleFacets facets) {
+        return Specification.where(ArticleSpecifications.hasAuthorName(facets.author()))
+                .and(ArticleSpecifications.hasTagName(facets.tag()))
+                .and(ArticleSpecifications.hasFavoritedUsername(facets.favorited()));
+    }
+
+    private Slice<Article> findFeed(User follower, PageCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return articleJpaRepository.findFeed(follower, pageable);
+        }
+
+        return articleJpaRepository.findFeedBefore(follower, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    private static Pageable pageable(ArticleFacets facets) {
+        // Note: With a cursor the position is already part of the predicate, so the first page is always read.
+        int page = facets.cursor() == null ? facets.page() : 0;
+        return PageRequest.of(page, facets.size(), LATEST_FIRST);
     }
 }
@@ -0,0 +1,16 @@
+package sample.shirohoo.realworld.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import sample.shirohoo.realworld.core.model.Article;
+
+/**
+ * Reads articles by slice instead of by page, so that no COUNT query is issued for each listing.
+ *
+ * @see ArticleSliceRepositoryImpl
+ */
+interface ArticleSliceRepository {
+    Slice<Article> findSlice(Specification<Article> spec, Pageable pageable);
+}
@@ -0,0 +1,48 @@
+package sample.shirohoo.realworld.persistence;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import lombok.RequiredArgsConstructor;
+
+import sample.shirohoo.realworld.core.model.Article;
+
+@RequiredArgsConstructor
+class ArticleSliceRepositoryImpl implements ArticleSliceRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Article> findSlice(Specification<Article> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Article> query = criteriaBuilder.createQuery(Article.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(root);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        // Read one more row than requested to find out whether there is a next slice, instead of counting.
+        List<Article> articles = entityManager
+                .createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = articles.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? articles.subList(0, pageable.getPageSize()) : articles, pageable, hasNext);
+    }
+}
@@ -1,13 +1,20 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 import org.springframework.data.jpa.domain.Specification;
 
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleFavorite;
 import sample.shirohoo.realworld.core.model.ArticleTag;
+import sample.shirohoo.realworld.core.model.PageCursor;
 import sample.shirohoo.realworld.core.model.Tag;
 import sample.shirohoo.realworld.core.model.User;
 
@@ -31,8 +38,15 @@ final class ArticleSpecifications {
                 return null;
             }
 
-            Join<ArticleTag, Tag> tag = query.from(ArticleTag.class).join("tag", JoinType.LEFT);
-            return criteriaBuilder.equal(tag.get("name"), tagName);
+            // Note: A semi-join starts from the tag, instead of crossing every article with every article tag.
+            Subquery<Integer> taggedArticleIds = query.subquery(Integer.class);
+            Root<ArticleTag> articleTag = taggedArticleIds.from(ArticleTag.class);
+            Join<ArticleTag, Tag> tag = articleTag.join("tag", JoinType.INNER);
+            taggedArticleIds
+                    .select(articleTag.get("article").get("id"))
+                    .where(criteriaBuilder.equal(tag.get("name"), tagName));
+
+            return root.get("id").in(taggedArticleIds);
         };
     }
 
@@ -42,9 +56,33 @@ final class ArticleSpecifications {
                 return null;
             }
 
-            Join<ArticleFavorite, User> favoriteUser =
-                    query.from(ArticleFavorite.class).join("user", JoinType.LEFT);
-            return criteriaBuilder.equal(favoriteUser.get("username"), favoritedUsername);
+            Subquery<Integer> favoritedArticleIds = query.subquery(Integer.class);
+            Root<ArticleFavorite> articleFavorite = favoritedArticleIds.from(ArticleFavorite.class);
+            Join<ArticleFavorite, User> favoriteUser = articleFavorite.join("user", JoinType.INNER);
+            favoritedArticleIds
+                    .select(articleFavorite.get("article").get("id"))
+                    .where(criteriaBuilder.equal(favoriteUser.get("username"), favoritedUsername));
+
+            return root.get("id").in(favoritedArticleIds);
+        };
+    }
+
+    static Specification<Article> hasAuthorIn(Collection<User> authors) {
+        return (root, query, criteriaBuilder) -> root.get("author").in(authors);
+    }
+
+    static Specification<Article> isBefore(PageCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return null;
+            }
+
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(createdAt, cursor.createdAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(createdAt, cursor.createdAt()),
+                            criteriaBuilder.lessThan(root.<Integer>get("id"), cursor.id())));
         };
     }
 }
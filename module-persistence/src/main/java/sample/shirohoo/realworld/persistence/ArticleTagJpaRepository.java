@@ -1,18 +1,45 @@
 package sample.shirohoo.realworld.persistence;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleTag;
+import sample.shirohoo.realworld.core.model.PageCursor;
 import sample.shirohoo.realworld.core.model.Tag;
 
 interface ArticleTagJpaRepository extends JpaRepository<ArticleTag, Integer> {
     Set<ArticleTag> findByArticle(Article article);
 
+    @Query(
+            """
+            select articleTag from ArticleTag articleTag
+            join fetch articleTag.tag
+            join fetch articleTag.article article
+            join fetch article.author
+            where articleTag.article in :articles
+            """)
+    Set<ArticleTag> findByArticleIn(@Param("articles") Collection<Article> articles);
+
     Set<ArticleTag> findByArticleAndTagIn(Article article, Collection<Tag> tags);
 
-    void deleteByArticle(Article article);
+    // Note: Articles are joined by primary key only for their creation time, no article is loaded.
+    @Query(
+            """
+            select new sample.shirohoo.realworld.core.model.PageCursor(article.createdAt, article.id)
+            from ArticleTag articleTag
+            join articleTag.article article
+            where articleTag.tag.name = :tagName
+            """)
+    List<PageCursor> findArticlePositionsByTagName(@Param("tagName") String tagName);
+
+    @Modifying
+    @Query("delete from ArticleTag articleTag where articleTag.article = :article")
+    void deleteByArticle(@Param("article") Article article);
 }
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import sample.shirohoo.realworld.core.model.Article;
 import sample.shirohoo.realworld.core.model.ArticleTag;
 import sample.shirohoo.realworld.core.model.ArticleTagRepository;
+import sample.shirohoo.realworld.core.model.PageCursor;
 import sample.shirohoo.realworld.core.model.Tag;
 
 @Repository
@@ -27,4 +28,9 @@ class ArticleTagRepositoryAdapter implements ArticleTagRepository {
     public Set<ArticleTag> findByArticleAndTagIn(Article article, Collection<Tag> tags) {
         return articleTagJpaRepository.findByArticleAndTagIn(article, tags);
     }
+
+    @Override
+    public List<PageCursor> findArticlePositionsByTagName(String tagName) {
+        return articleTagJpaRepository.findArticlePositionsByTagName(tagName);
+    }
 }
@@ -1,6 +1,8 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,10 +17,13 @@ import sample.shirohoo.realworld.core.model.UserFollow;
 @RequiredArgsConstructor
 class SocialRepositoryAdapter implements SocialRepository {
     private final UserFollowJpaRepository userFollowJpaRepository;
+    private final UserJpaRepository userJpaRepository;
 
     @Override
+    @Transactional
     public void save(UserFollow userFollow) {
         userFollowJpaRepository.save(userFollow);
+        userJpaRepository.addFollowersCount(userFollow.getFollowing(), 1);
     }
 
     @Override
@@ -26,10 +31,21 @@ class SocialRepositoryAdapter implements SocialRepository {
         return userFollowJpaRepository.findByFollower(follower);
     }
 
+    @Override
+    public Set<User> findFollowingAmong(User follower, Collection<User> candidates) {
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        return userFollowJpaRepository.findFollowingAmong(follower, candidates);
+    }
+
     @Override
     @Transactional
     public void deleteByFollowerAndFollowing(User follower, User following) {
-        userFollowJpaRepository.deleteByFollowerAndFollowing(follower, following);
+        if (userFollowJpaRepository.deleteByFollowerAndFollowing(follower, following) > 0) {
+            userJpaRepository.addFollowersCount(following, -1);
+        }
     }
 
     @Override
@@ -1,12 +1,35 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Set;
 
+import jakarta.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import sample.shirohoo.realworld.core.model.Tag;
 
 interface TagJpaRepository extends JpaRepository<Tag, Integer> {
     Set<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * Insert a tag unless the name already exists, without failing on the unique name.
+     *
+     * @param name tag name
+     * @param createdAt creation time
+     * @return Returns 1 if the tag was inserted, otherwise 0
+     */
+    @Modifying
+    @Query(value = "insert ignore into tag (name, created_at) values (:name, :createdAt)", nativeQuery = true)
+    int insertIgnore(@Param("name") String name, @Param("createdAt") LocalDateTime createdAt);
+
+    // Note: A locking read sees tags committed by other transactions even under repeatable read.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from Tag t where t.name in :names")
+    Set<Tag> findCommittedByNameIn(@Param("names") Collection<String> names);
 }
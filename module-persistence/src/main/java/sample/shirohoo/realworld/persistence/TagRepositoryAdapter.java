@@ -1,10 +1,14 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,4 +34,27 @@ class TagRepositoryAdapter implements TagRepository {
     public Set<Tag> findByNameIn(Collection<String> names) {
         return tagJpaRepository.findByNameIn(names);
     }
+
+    @Override
+    @Transactional
+    public Set<Tag> resolveOrCreate(Collection<String> names) {
+        // Note: Names are inserted in sorted order, so that concurrent publishes lock the same rows in the same order.
+        Set<String> distinctNames = new TreeSet<>(names);
+        if (distinctNames.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Tag> tags = new HashSet<>(tagJpaRepository.findByNameIn(distinctNames));
+        if (tags.size() == distinctNames.size()) {
+            return tags;
+        }
+
+        // Note: Instead of failing, a concurrent insert of the same name makes this one wait for it and skip the row.
+        LocalDateTime now = LocalDateTime.now();
+        tags.forEach(tag -> distinctNames.remove(tag.getName()));
+        distinctNames.forEach(name -> tagJpaRepository.insertIgnore(name, now));
+
+        tags.addAll(tagJpaRepository.findCommittedByNameIn(distinctNames));
+        return tags;
+    }
 }
@@ -0,0 +1,99 @@
+package sample.shirohoo.realworld.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.TimelineEntry;
+import sample.shirohoo.realworld.core.model.User;
+
+interface TimelineEntryJpaRepository extends JpaRepository<TimelineEntry, Integer> {
+    @Modifying
+    @Transactional
+    @Query(
+            """
+            insert into TimelineEntry (owner, article, author, createdAt)
+            select f.follower, a, a.author, a.createdAt
+            from UserFollow f, Article a
+            where a = :article and f.following = a.author
+            """)
+    int fanOut(@Param("article") Article article);
+
+    // Note: Articles already in a timeline, e.g. pushed before the author became popular, are skipped.
+    @Modifying
+    @Transactional
+    @Query(
+            """
+            insert into TimelineEntry (owner, article, author, createdAt)
+            select f.follower, a, a.author, a.createdAt
+            from UserFollow f, Article a
+            where f.following = :author and a.author = :author and a.id in :articleIds
+              and not exists (select 1 from TimelineEntry t where t.owner = f.follower and t.article = a)
+            """)
+    int fanOutAll(@Param("author") User author, @Param("articleIds") Collection<Integer> articleIds);
+
+    @Query(
+            """
+            select a from TimelineEntry t
+            join t.article a
+            join fetch a.author
+            where t.owner = :owner
+            order by t.createdAt desc, a.id desc
+            """)
+    List<Article> findArticlesByOwner(@Param("owner") User owner, Pageable pageable);
+
+    @Query(
+            """
+            select a from TimelineEntry t
+            join t.article a
+            join fetch a.author
+            where t.owner = :owner
+              and (t.createdAt < :createdAt or (t.createdAt = :createdAt and a.id < :articleId))
+            order by t.createdAt desc, a.id desc
+            """)
+    List<Article> findArticlesByOwnerBefore(
+            @Param("owner") User owner,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("articleId") int articleId,
+            Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TimelineEntry t where t.owner = :owner and t.author = :author")
+    void deleteByOwnerAndAuthor(@Param("owner") User owner, @Param("author") User author);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TimelineEntry t where t.article = :article")
+    void deleteByArticle(@Param("article") Article article);
+
+    /**
+     * Remove the oldest entries of every timeline that holds more entries than the capacity.
+     *
+     * @return Returns the number of removed entries
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value =
+                    """
+                    delete from user_timeline
+                    where id in (
+                        select id from (
+                            select id,
+                                   row_number() over (
+                                       partition by owner_id order by created_at desc, article_id desc) as position
+                            from user_timeline) ranked
+                        where ranked.position > :capacity)
+                    """,
+            nativeQuery = true)
+    int trim(@Param("capacity") int capacity);
+}
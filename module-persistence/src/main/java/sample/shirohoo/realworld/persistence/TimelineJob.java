@@ -0,0 +1,29 @@
+package sample.shirohoo.realworld.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+class TimelineJob {
+    private final TimelineRepositoryAdapter timelineRepositoryAdapter;
+    private final int capacity;
+
+    TimelineJob(
+            TimelineRepositoryAdapter timelineRepositoryAdapter,
+            @Value("${realworld.feed.timeline.capacity:800}") int capacity) {
+        this.timelineRepositoryAdapter = timelineRepositoryAdapter;
+        this.capacity = capacity;
+    }
+
+    @Scheduled(fixedDelayString = "${realworld.feed.timeline.trim-interval:PT10M}")
+    public void trim() {
+        int trimmed = timelineRepositoryAdapter.trim(capacity);
+        if (trimmed > 0) {
+            log.debug("trimmed {} timeline entries.", trimmed);
+        }
+    }
+}
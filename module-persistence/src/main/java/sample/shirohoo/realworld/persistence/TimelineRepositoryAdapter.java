@@ -0,0 +1,81 @@
+package sample.shirohoo.realworld.persistence;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import sample.shirohoo.realworld.core.model.Article;
+import sample.shirohoo.realworld.core.model.PageCursor;
+import sample.shirohoo.realworld.core.model.TimelineEntry;
+import sample.shirohoo.realworld.core.model.TimelineRepository;
+import sample.shirohoo.realworld.core.model.User;
+
+@Repository
+@RequiredArgsConstructor
+class TimelineRepositoryAdapter implements TimelineRepository {
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final ArticleJpaRepository articleJpaRepository;
+    private final TimelineEntryJpaRepository timelineEntryJpaRepository;
+
+    @Override
+    public int fanOut(Article article) {
+        return timelineEntryJpaRepository.fanOut(article);
+    }
+
+    @Override
+    @Transactional
+    public void backfill(User owner, User author, int limit) {
+        List<TimelineEntry> entries =
+                articleJpaRepository.findByAuthor(author, PageRequest.of(0, limit, LATEST_FIRST)).stream()
+                        .map(article -> new TimelineEntry(owner, article))
+                        .toList();
+
+        timelineEntryJpaRepository.saveAll(entries);
+    }
+
+    @Override
+    @Transactional
+    public int backfillFollowers(User author, int limit) {
+        List<Integer> articleIds =
+                articleJpaRepository.findByAuthor(author, PageRequest.of(0, limit, LATEST_FIRST)).stream()
+                        .map(Article::getId)
+                        .toList();
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        return timelineEntryJpaRepository.fanOutAll(author, articleIds);
+    }
+
+    @Override
+    public void prune(User owner, User author) {
+        timelineEntryJpaRepository.deleteByOwnerAndAuthor(owner, author);
+    }
+
+    @Override
+    public List<Article> findArticles(User owner, PageCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return timelineEntryJpaRepository.findArticlesByOwner(owner, pageable);
+        }
+
+        return timelineEntryJpaRepository.findArticlesByOwnerBefore(owner, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    /**
+     * Trim every timeline to the capacity.
+     *
+     * @param capacity maximum number of entries per timeline
+     * @return Returns the number of removed entries
+     */
+    public int trim(int capacity) {
+        return timelineEntryJpaRepository.trim(capacity);
+    }
+}
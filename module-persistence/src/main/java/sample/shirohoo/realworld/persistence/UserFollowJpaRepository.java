@@ -1,8 +1,12 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import sample.shirohoo.realworld.core.model.User;
 import sample.shirohoo.realworld.core.model.UserFollow;
@@ -10,7 +14,11 @@ import sample.shirohoo.realworld.core.model.UserFollow;
 interface UserFollowJpaRepository extends JpaRepository<UserFollow, Integer> {
     List<UserFollow> findByFollower(User follower);
 
-    void deleteByFollowerAndFollowing(User follower, User following);
+    @Query("select f.following from UserFollow f where f.follower = :follower and f.following in :candidates")
+    Set<User> findFollowingAmong(
+            @Param("follower") User follower, @Param("candidates") Collection<User> candidates);
+
+    long deleteByFollowerAndFollowing(User follower, User following);
 
     boolean existsByFollowerAndFollowing(User follower, User following);
 }
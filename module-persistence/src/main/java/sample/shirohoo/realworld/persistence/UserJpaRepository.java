@@ -1,9 +1,18 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import sample.shirohoo.realworld.core.model.User;
 
@@ -17,4 +26,22 @@ interface UserJpaRepository extends JpaRepository<User, UUID> {
     boolean existsByUsername(String username);
 
     boolean existsByEmailOrUsername(String email, String username);
+
+    List<User> findByEmailOrUsername(String email, String username);
+
+    List<User> findByFollowersCountGreaterThanEqual(int followersCount);
+
+    @Modifying
+    @Query("update User u set u.followersCount = u.followersCount + :delta where u = :user")
+    void addFollowersCount(@Param("user") User user, @Param("delta") int delta);
+
+    // Note: With a projection only the two columns are read, and no user is put into the persistence context.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EmailAndUsername> streamAllBy();
+
+    interface EmailAndUsername {
+        String getEmail();
+
+        String getUsername();
+    }
 }
@@ -1,9 +1,14 @@
 package sample.shirohoo.realworld.persistence;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +30,15 @@ class UserRepositoryAdapter implements UserRepository {
         return userJpaRepository.findById(id);
     }
 
+    @Override
+    @Transactional
+    public Optional<User> update(UUID id, Consumer<User> changes) {
+        return userJpaRepository.findById(id).map(user -> {
+            changes.accept(user);
+            return userJpaRepository.save(user);
+        });
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return userJpaRepository.findByEmail(email);
@@ -49,4 +63,22 @@ class UserRepositoryAdapter implements UserRepository {
     public boolean existsByEmailOrUsername(String email, String username) {
         return userJpaRepository.existsByEmailOrUsername(email, username);
     }
+
+    @Override
+    public List<User> findByEmailOrUsername(String email, String username) {
+        return userJpaRepository.findByEmailOrUsername(email, username);
+    }
+
+    @Override
+    public List<User> findPopular(int followers) {
+        return userJpaRepository.findByFollowersCountGreaterThanEqual(followers);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEmailAndUsername(BiConsumer<String, String> action) {
+        try (Stream<UserJpaRepository.EmailAndUsername> users = userJpaRepository.streamAllBy()) {
+            users.forEach(user -> action.accept(user.getEmail(), user.getUsername()));
+        }
+    }
 }